@@ -2,6 +2,7 @@ package net.minestom.codegen;
 
 import net.minestom.codegen.color.DyeColorGenerator;
 import net.minestom.codegen.fluid.FluidGenerator;
+import net.minestom.codegen.packet.PacketSerializerGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +38,9 @@ public class Generators {
         // Generate fluids
         new FluidGenerator(resource("fluids.json"), outputFolder).generate();
 
+        // Generate packet serializers
+        new PacketSerializerGenerator(resource("packet_serializers.json"), outputFolder).generate();
+
         // TODO: Generate attributes
 //        new AttributeGenerator(
 //                new File(inputFolder, targetVersion + "_attributes.json"),
@@ -0,0 +1,128 @@
+package net.minestom.codegen.packet;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.squareup.javapoet.*;
+import net.minestom.codegen.MinestomCodeGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.lang.model.element.Modifier;
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Generates a serializer for each packet record listed in {@code packet_serializers.json}.
+ * <p>
+ * Each serializer computes the exact encoded size of the packet, and writes its fields
+ * using the primitive methods of {@code NetworkBuffer}.
+ */
+public final class PacketSerializerGenerator extends MinestomCodeGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PacketSerializerGenerator.class);
+
+    private static final ClassName NETWORK_BUFFER = ClassName.get("net.minestom.server.network", "NetworkBuffer");
+    private static final ClassName UTILS = ClassName.get("net.minestom.server.utils", "Utils");
+    private static final ClassName API_STATUS_INTERNAL = ClassName.get("org.jetbrains.annotations", "ApiStatus", "Internal");
+
+    private final InputStream packetsFile;
+    private final File outputFolder;
+
+    public PacketSerializerGenerator(@Nullable InputStream packetsFile, @NotNull File outputFolder) {
+        this.packetsFile = packetsFile;
+        this.outputFolder = outputFolder;
+    }
+
+    @Override
+    public void generate() {
+        if (packetsFile == null) {
+            LOGGER.error("Failed to find packet_serializers.json.");
+            LOGGER.error("Stopped code generation for packet serializers.");
+            return;
+        }
+        if (!outputFolder.exists() && !outputFolder.mkdirs()) {
+            LOGGER.error("Output folder for code generation does not exist and could not be created.");
+            return;
+        }
+        JsonObject packets = GSON.fromJson(new InputStreamReader(packetsFile), JsonObject.class);
+        List<JavaFile> files = new ArrayList<>();
+        for (Map.Entry<String, JsonElement> entry : packets.entrySet()) {
+            final ClassName packetClassName = ClassName.bestGuess(entry.getKey());
+            files.add(generateSerializer(packetClassName, entry.getValue().getAsJsonArray()));
+        }
+        writeFiles(files, outputFolder);
+    }
+
+    private JavaFile generateSerializer(ClassName packetClassName, JsonArray fields) {
+        final ClassName serializerClassName = packetClassName.peerClass(packetClassName.simpleName() + "Serializer");
+        final ParameterSpec packetParameter = ParameterSpec.builder(packetClassName, "packet")
+                .addAnnotation(NotNull.class).build();
+
+        int fixedSize = 0;
+        List<CodeBlock> variableSizes = new ArrayList<>();
+        CodeBlock.Builder writeCode = CodeBlock.builder();
+        for (JsonElement element : fields) {
+            final JsonObject field = element.getAsJsonObject();
+            final FieldType type = FieldType.valueOf(field.get("type").getAsString().toUpperCase(Locale.ROOT));
+            final String value = field.get("value").getAsString();
+            if (type == FieldType.VAR_INT) {
+                variableSizes.add(CodeBlock.of("$T.getVarIntSize($L)", UTILS, value));
+            } else {
+                fixedSize += type.size;
+            }
+            writeCode.addStatement("buffer.$L($L)", type.method, value);
+        }
+
+        CodeBlock.Builder sizeCode = CodeBlock.builder().add("$L", fixedSize);
+        for (CodeBlock variableSize : variableSizes) sizeCode.add(" + $L", variableSize);
+
+        TypeSpec serializerClass = TypeSpec.classBuilder(serializerClassName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(API_STATUS_INTERNAL)
+                .addJavadoc("AUTOGENERATED by " + getClass().getSimpleName())
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(MethodSpec.methodBuilder("sizeOf")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(int.class)
+                        .addParameter(packetParameter)
+                        .addStatement("return $L", sizeCode.build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("write")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(ParameterSpec.builder(NETWORK_BUFFER, "buffer").addAnnotation(NotNull.class).build())
+                        .addParameter(packetParameter)
+                        .addCode(writeCode.build())
+                        .build())
+                .build();
+        return JavaFile.builder(serializerClassName.packageName(), serializerClass)
+                .indent("    ")
+                .skipJavaLangImports(true)
+                .build();
+    }
+
+    private enum FieldType {
+        BOOLEAN(1, "writeBoolean"),
+        BYTE(1, "writeByte"),
+        SHORT(2, "writeShort"),
+        INT(4, "writeInt"),
+        LONG(8, "writeLong"),
+        FLOAT(4, "writeFloat"),
+        DOUBLE(8, "writeDouble"),
+        VAR_INT(-1, "writeVarInt");
+
+        private final int size;
+        private final String method;
+
+        FieldType(int size, String method) {
+            this.size = size;
+            this.method = method;
+        }
+    }
+}
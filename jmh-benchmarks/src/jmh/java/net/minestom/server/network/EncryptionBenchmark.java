@@ -0,0 +1,69 @@
+package net.minestom.server.network;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.ShortBufferException;
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encrypting each packet into a temporary buffer (previous behavior)
+ * with appending plaintext and encrypting the whole region in place before flushing.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EncryptionBenchmark {
+    @Param({"16", "64", "512"})
+    public int packetSize;
+
+    @Param({"100"})
+    public int packetCount;
+
+    Cipher cipher;
+    ByteBuffer packet;
+    ByteBuffer temp;
+    ByteBuffer target;
+
+    @Setup
+    public void setup() throws NoSuchAlgorithmException {
+        KeyGenerator generator = KeyGenerator.getInstance("AES");
+        generator.init(128);
+        this.cipher = MojangCrypt.getCipher(Cipher.ENCRYPT_MODE, generator.generateKey());
+        this.packet = ByteBuffer.allocateDirect(packetSize);
+        this.temp = ByteBuffer.allocateDirect(2_097_151);
+        this.target = ByteBuffer.allocateDirect(packetSize * packetCount);
+    }
+
+    @Benchmark
+    public void perPacket(Blackhole blackhole) throws ShortBufferException {
+        target.clear();
+        for (int i = 0; i < packetCount; i++) {
+            temp.clear();
+            final int length = cipher.update(packet.slice(0, packetSize), temp);
+            target.put(target.position(), temp, 0, length);
+            target.position(target.position() + length);
+        }
+        blackhole.consume(target);
+    }
+
+    @Benchmark
+    public void atFlush(Blackhole blackhole) throws ShortBufferException {
+        target.clear();
+        for (int i = 0; i < packetCount; i++) {
+            target.put(target.position(), packet, 0, packetSize);
+            target.position(target.position() + packetSize);
+        }
+        ByteBuffer region = target.slice(0, target.position());
+        cipher.update(region, region.duplicate());
+        blackhole.consume(target);
+    }
+}
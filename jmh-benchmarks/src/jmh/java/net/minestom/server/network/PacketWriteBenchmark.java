@@ -0,0 +1,60 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.ServerPacketIdentifier;
+import net.minestom.server.network.packet.server.play.EntityTeleportPacket;
+import net.minestom.server.utils.PacketUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+/**
+ * Compares framing a packet using its generated serializer with the generic {@link NetworkBuffer.Type} path.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PacketWriteBenchmark {
+    @Param({"0", "256"})
+    public int compressionThreshold;
+
+    EntityTeleportPacket packet;
+    NetworkBuffer.Writer genericWriter;
+    ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        this.packet = new EntityTeleportPacket(5, new Pos(1.5, 64, -20.25, 90, 45), true);
+        this.genericWriter = writer -> {
+            writer.write(VAR_INT, packet.entityId());
+            writer.write(DOUBLE, packet.position().x());
+            writer.write(DOUBLE, packet.position().y());
+            writer.write(DOUBLE, packet.position().z());
+            writer.write(BYTE, (byte) (packet.position().yaw() * 256f / 360f));
+            writer.write(BYTE, (byte) (packet.position().pitch() * 256f / 360f));
+            writer.write(BOOLEAN, packet.onGround());
+        };
+        this.buffer = ByteBuffer.allocateDirect(1024);
+    }
+
+    @Benchmark
+    public void generated(Blackhole blackhole) {
+        buffer.clear();
+        PacketUtils.writeFramedPacket(buffer, ServerPacketIdentifier.ENTITY_TELEPORT, packet, compressionThreshold);
+        blackhole.consume(buffer);
+    }
+
+    @Benchmark
+    public void generic(Blackhole blackhole) {
+        buffer.clear();
+        PacketUtils.writeFramedPacket(buffer, ServerPacketIdentifier.ENTITY_TELEPORT, genericWriter, compressionThreshold);
+        blackhole.consume(buffer);
+    }
+}
@@ -0,0 +1,46 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.Tickable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+
+    @Param({"4", "8", "16", "32", "64"})
+    public int threadCount;
+
+    // Spin window of the tick barrier, 0 to always park
+    @Param({"0", "20000"})
+    public long spinNanos;
+
+    ThreadDispatcher<Tickable> dispatcher;
+
+    @Setup
+    public void setup() {
+        System.setProperty("minestom.tick-spin-nanos", String.valueOf(spinNanos));
+        this.dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            // One empty partition per thread, only measures the dispatch overhead
+            dispatcher.createPartition(time -> {
+            });
+        }
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void dispatch() {
+        this.dispatcher.updateAndAwait(0);
+    }
+}
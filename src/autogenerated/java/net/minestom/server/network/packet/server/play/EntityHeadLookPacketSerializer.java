@@ -0,0 +1,24 @@
+package net.minestom.server.network.packet.server.play;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AUTOGENERATED by PacketSerializerGenerator
+ */
+@ApiStatus.Internal
+public final class EntityHeadLookPacketSerializer {
+    private EntityHeadLookPacketSerializer() {
+    }
+
+    public static int sizeOf(@NotNull EntityHeadLookPacket packet) {
+        return 1 + Utils.getVarIntSize(packet.entityId());
+    }
+
+    public static void write(@NotNull NetworkBuffer buffer, @NotNull EntityHeadLookPacket packet) {
+        buffer.writeVarInt(packet.entityId());
+        buffer.writeByte((byte) (packet.yaw() * 256 / 360));
+    }
+}
@@ -0,0 +1,29 @@
+package net.minestom.server.network.packet.server.play;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AUTOGENERATED by PacketSerializerGenerator
+ */
+@ApiStatus.Internal
+public final class EntityPositionAndRotationPacketSerializer {
+    private EntityPositionAndRotationPacketSerializer() {
+    }
+
+    public static int sizeOf(@NotNull EntityPositionAndRotationPacket packet) {
+        return 9 + Utils.getVarIntSize(packet.entityId());
+    }
+
+    public static void write(@NotNull NetworkBuffer buffer, @NotNull EntityPositionAndRotationPacket packet) {
+        buffer.writeVarInt(packet.entityId());
+        buffer.writeShort(packet.deltaX());
+        buffer.writeShort(packet.deltaY());
+        buffer.writeShort(packet.deltaZ());
+        buffer.writeByte((byte) (packet.yaw() * 256 / 360));
+        buffer.writeByte((byte) (packet.pitch() * 256 / 360));
+        buffer.writeBoolean(packet.onGround());
+    }
+}
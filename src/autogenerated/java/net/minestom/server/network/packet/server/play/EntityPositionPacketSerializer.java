@@ -0,0 +1,27 @@
+package net.minestom.server.network.packet.server.play;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AUTOGENERATED by PacketSerializerGenerator
+ */
+@ApiStatus.Internal
+public final class EntityPositionPacketSerializer {
+    private EntityPositionPacketSerializer() {
+    }
+
+    public static int sizeOf(@NotNull EntityPositionPacket packet) {
+        return 7 + Utils.getVarIntSize(packet.entityId());
+    }
+
+    public static void write(@NotNull NetworkBuffer buffer, @NotNull EntityPositionPacket packet) {
+        buffer.writeVarInt(packet.entityId());
+        buffer.writeShort(packet.deltaX());
+        buffer.writeShort(packet.deltaY());
+        buffer.writeShort(packet.deltaZ());
+        buffer.writeBoolean(packet.onGround());
+    }
+}
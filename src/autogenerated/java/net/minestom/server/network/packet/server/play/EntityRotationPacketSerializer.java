@@ -0,0 +1,26 @@
+package net.minestom.server.network.packet.server.play;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AUTOGENERATED by PacketSerializerGenerator
+ */
+@ApiStatus.Internal
+public final class EntityRotationPacketSerializer {
+    private EntityRotationPacketSerializer() {
+    }
+
+    public static int sizeOf(@NotNull EntityRotationPacket packet) {
+        return 3 + Utils.getVarIntSize(packet.entityId());
+    }
+
+    public static void write(@NotNull NetworkBuffer buffer, @NotNull EntityRotationPacket packet) {
+        buffer.writeVarInt(packet.entityId());
+        buffer.writeByte((byte) (packet.yaw() * 256 / 360));
+        buffer.writeByte((byte) (packet.pitch() * 256 / 360));
+        buffer.writeBoolean(packet.onGround());
+    }
+}
@@ -0,0 +1,29 @@
+package net.minestom.server.network.packet.server.play;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AUTOGENERATED by PacketSerializerGenerator
+ */
+@ApiStatus.Internal
+public final class EntityTeleportPacketSerializer {
+    private EntityTeleportPacketSerializer() {
+    }
+
+    public static int sizeOf(@NotNull EntityTeleportPacket packet) {
+        return 27 + Utils.getVarIntSize(packet.entityId());
+    }
+
+    public static void write(@NotNull NetworkBuffer buffer, @NotNull EntityTeleportPacket packet) {
+        buffer.writeVarInt(packet.entityId());
+        buffer.writeDouble(packet.position().x());
+        buffer.writeDouble(packet.position().y());
+        buffer.writeDouble(packet.position().z());
+        buffer.writeByte((byte) (packet.position().yaw() * 256f / 360f));
+        buffer.writeByte((byte) (packet.position().pitch() * 256f / 360f));
+        buffer.writeBoolean(packet.onGround());
+    }
+}
@@ -0,0 +1,26 @@
+package net.minestom.server.network.packet.server.play;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AUTOGENERATED by PacketSerializerGenerator
+ */
+@ApiStatus.Internal
+public final class EntityVelocityPacketSerializer {
+    private EntityVelocityPacketSerializer() {
+    }
+
+    public static int sizeOf(@NotNull EntityVelocityPacket packet) {
+        return 6 + Utils.getVarIntSize(packet.entityId());
+    }
+
+    public static void write(@NotNull NetworkBuffer buffer, @NotNull EntityVelocityPacket packet) {
+        buffer.writeVarInt(packet.entityId());
+        buffer.writeShort(packet.velocityX());
+        buffer.writeShort(packet.velocityY());
+        buffer.writeShort(packet.velocityZ());
+    }
+}
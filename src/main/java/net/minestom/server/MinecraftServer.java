@@ -18,6 +18,7 @@ import net.minestom.server.network.packet.server.play.ServerDifficultyPacket;
 import net.minestom.server.network.socket.Server;
 import net.minestom.server.recipe.RecipeManager;
 import net.minestom.server.scoreboard.TeamManager;
+import net.minestom.server.thread.TickOverrunPolicy;
 import net.minestom.server.thread.TickSchedulerThread;
 import net.minestom.server.timer.SchedulerManager;
 import net.minestom.server.utils.MathUtils;
@@ -67,6 +68,7 @@ public final class MinecraftServer {
     private static boolean terminalEnabled = System.getProperty("minestom.terminal.disabled") == null;
     private static String brandName = "Minestom";
     private static Difficulty difficulty = Difficulty.NORMAL;
+    private static volatile TickOverrunPolicy tickOverrunPolicy = TickOverrunPolicy.delay();
 
     public static MinecraftServer init() {
         updateProcess();
@@ -266,6 +268,26 @@ public final class MinecraftServer {
         MinecraftServer.compressionThreshold = compressionThreshold;
     }
 
+    /**
+     * Gets the policy deciding when the next tick starts after a slow tick.
+     *
+     * @return the tick overrun policy
+     */
+    public static @NotNull TickOverrunPolicy getTickOverrunPolicy() {
+        return tickOverrunPolicy;
+    }
+
+    /**
+     * Changes the policy deciding when the next tick starts after a slow tick.
+     * <p>
+     * Defaults to {@link TickOverrunPolicy#delay()}, can be changed while the server is running.
+     *
+     * @param tickOverrunPolicy the new tick overrun policy
+     */
+    public static void setTickOverrunPolicy(@NotNull TickOverrunPolicy tickOverrunPolicy) {
+        MinecraftServer.tickOverrunPolicy = tickOverrunPolicy;
+    }
+
     /**
      * Gets if the built in Minestom terminal is enabled.
      *
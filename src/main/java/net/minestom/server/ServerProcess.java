@@ -12,6 +12,7 @@ import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
+import net.minestom.server.monitoring.TickMonitor;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
@@ -24,6 +25,7 @@ import net.minestom.server.world.DimensionTypeManager;
 import net.minestom.server.world.biomes.BiomeManager;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.SocketAddress;
 
@@ -141,5 +143,12 @@ public interface ServerProcess extends Snapshotable {
     @ApiStatus.NonExtendable
     interface Ticker {
         void tick(long nanoTime);
+
+        /**
+         * Gets the monitoring data of the last tick.
+         *
+         * @return the last tick monitor, null if no tick happened yet
+         */
+        @Nullable TickMonitor lastMonitor();
     }
 }
@@ -5,6 +5,7 @@ import net.minestom.server.advancements.AdvancementManager;
 import net.minestom.server.adventure.bossbar.BossBarManager;
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.GlobalEventHandler;
 import net.minestom.server.event.server.ServerTickMonitorEvent;
@@ -12,11 +13,14 @@ import net.minestom.server.exception.ExceptionManager;
 import net.minestom.server.gamedata.tags.TagManager;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
 import net.minestom.server.instance.InstanceManager;
 import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.monitoring.TickMonitor;
+import net.minestom.server.monitoring.TickPhase;
+import net.minestom.server.monitoring.TickRecording;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
@@ -26,24 +30,38 @@ import net.minestom.server.snapshot.*;
 import net.minestom.server.terminal.MinestomTerminal;
 import net.minestom.server.thread.Acquirable;
 import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.thread.ThreadProvider;
+import net.minestom.server.thread.TickThread;
 import net.minestom.server.timer.SchedulerManager;
 import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.PropertyUtils;
 import net.minestom.server.utils.collection.MappedCollection;
 import net.minestom.server.world.DimensionTypeManager;
 import net.minestom.server.world.biomes.BiomeManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 final class ServerProcessImpl implements ServerProcess {
     private final static Logger LOGGER = LoggerFactory.getLogger(ServerProcessImpl.class);
+    private static final int TICK_THREADS = Integer.getInteger("minestom.tick-threads", 1);
+    // Tick instances using the dispatcher threads, only used if there are multiple threads
+    private static final boolean PARALLEL_INSTANCE_TICK = PropertyUtils.getBoolean("minestom.parallel-instance-tick", true);
+    // Chunk regions ticked as a single unit, 0 to dispatch each chunk independently
+    private static final int REGION_SIZE = Integer.getInteger("minestom.region-size", 0);
+    private static final long REGION_SPLIT_COST = Long.getLong("minestom.region-split-cost",
+            TimeUnit.MILLISECONDS.toNanos(MinecraftServer.TICK_MS) / 4);
 
     private final ExceptionManager exception;
     private final ConnectionManager connection;
@@ -90,10 +108,19 @@ final class ServerProcessImpl implements ServerProcess {
         this.tag = new TagManager();
         this.server = new Server(packetProcessor);
 
-        this.dispatcher = ThreadDispatcher.singleThread();
+        this.dispatcher = createDispatcher();
         this.ticker = new TickerImpl();
     }
 
+    private static ThreadDispatcher<Chunk> createDispatcher() {
+        if (REGION_SIZE > 0) {
+            return ThreadDispatcher.regions(ThreadProvider.balanced(), TICK_THREADS,
+                    ThreadDispatcher.chunkRegions(REGION_SIZE), REGION_SPLIT_COST);
+        }
+        if (TICK_THREADS > 1) return ThreadDispatcher.of(ThreadProvider.balanced(), TICK_THREADS);
+        return ThreadDispatcher.singleThread();
+    }
+
     @Override
     public @NotNull ConnectionManager connection() {
         return connection;
@@ -256,48 +283,113 @@ final class ServerProcessImpl implements ServerProcess {
     }
 
     private final class TickerImpl implements Ticker {
+        // Time spent in each phase of the current tick, in milliseconds
+        private final double[] phaseTimes = new double[TickPhase.values().length];
+        private long phaseStart;
+        private TickMonitor lastMonitor;
+
         @Override
         public void tick(long nanoTime) {
             final long msTime = System.currentTimeMillis();
+            this.phaseStart = nanoTime;
 
             scheduler().processTick();
+            endPhase(TickPhase.SCHEDULER);
 
             // Waiting players update (newly connected clients waiting to get into the server)
             connection().updateWaitingPlayers();
 
             // Keep Alive Handling
             connection().handleKeepAlive(msTime);
+            endPhase(TickPhase.CONNECTIONS);
 
             // Server tick (chunks/entities)
             serverTick(msTime);
 
+            // Send the block changes of the tick
+            for (Instance instance : instance().getInstances()) {
+                if (instance instanceof InstanceContainer container) container.flushBlockChanges();
+            }
+
             // Flush all waiting packets
             PacketUtils.flush();
+            endPhase(TickPhase.FLUSH);
 
             // Monitoring
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs, phaseTimes,
+                        threadProfiles(), entityTypeTimes());
+                this.lastMonitor = tickMonitor;
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
+                TickRecording.commit(tickMonitor);
+            }
+        }
+
+        @Override
+        public @Nullable TickMonitor lastMonitor() {
+            return lastMonitor;
+        }
+
+        private List<TickMonitor.ThreadProfile> threadProfiles() {
+            final List<TickThread> threads = dispatcher().threads();
+            final double dispatcherTime = phaseTimes[TickPhase.DISPATCHER.ordinal()];
+            List<TickMonitor.ThreadProfile> profiles = new ArrayList<>(threads.size());
+            for (TickThread thread : threads) {
+                final double busyTime = thread.busyTime() / 1e6D;
+                profiles.add(new TickMonitor.ThreadProfile(thread.getName(), busyTime,
+                        Math.max(0, dispatcherTime - busyTime), thread.packetTime() / 1e6D));
+            }
+            return profiles;
+        }
+
+        private Map<EntityType, Double> entityTypeTimes() {
+            Map<EntityType, Double> times = null;
+            for (TickThread thread : dispatcher().threads()) {
+                final long[] threadTimes = thread.entityTypeTimes();
+                if (threadTimes == null) return Map.of();
+                if (times == null) times = new HashMap<>();
+                for (int id = 0; id < threadTimes.length; id++) {
+                    final long time = threadTimes[id];
+                    if (time == 0) continue;
+                    final EntityType type = EntityType.fromId(id);
+                    if (type != null) times.merge(type, time / 1e6D, Double::sum);
+                }
             }
+            return times != null ? times : Map.of();
+        }
+
+        private void endPhase(TickPhase phase) {
+            final long time = System.nanoTime();
+            this.phaseTimes[phase.ordinal()] = (time - phaseStart) / 1e6D;
+            this.phaseStart = time;
         }
 
         private void serverTick(long tickStart) {
             // Tick all instances
-            for (Instance instance : instance().getInstances()) {
-                try {
-                    instance.tick(tickStart);
-                } catch (Exception e) {
-                    exception().handleException(e);
+            final ThreadDispatcher<Chunk> dispatcher = dispatcher();
+            if (PARALLEL_INSTANCE_TICK && dispatcher.threads().size() > 1) {
+                // Instance ticks complete before any chunk tick starts
+                dispatcher.tickAndAwait(List.copyOf(instance().getInstances()), tickStart);
+            } else {
+                for (Instance instance : instance().getInstances()) {
+                    try {
+                        instance.tick(tickStart);
+                    } catch (Exception e) {
+                        exception().handleException(e);
+                    }
                 }
             }
+            endPhase(TickPhase.INSTANCES);
             // Tick all chunks (and entities inside)
-            dispatcher().updateAndAwait(tickStart);
+            dispatcher.updateAndAwait(tickStart);
+            endPhase(TickPhase.DISPATCHER);
 
             // Clear removed entities & update threads
             final long tickTime = System.currentTimeMillis() - tickStart;
-            dispatcher().refreshThreads(tickTime);
+            dispatcher.refreshThreads(tickTime);
+            endPhase(TickPhase.REFRESH);
         }
     }
 }
@@ -0,0 +1,132 @@
+package net.minestom.server.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.player.PlayerChunkLoadEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.monitoring.NetworkStatistics;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static net.minestom.server.utils.chunk.ChunkUtils.getChunkIndex;
+
+/**
+ * Chunks waiting to be sent to a player, nearest first.
+ * <p>
+ * At most {@link #CHUNKS_PER_TICK} chunks are sent each tick, less when the connection could not flush
+ * its previous packets, so that a teleport does not fill the socket buffer with the whole view at once.
+ * Chunks leaving the view before being sent are dropped.
+ */
+final class ChunkSendQueue {
+    static final int CHUNKS_PER_TICK = Integer.getInteger("minestom.chunk-send-budget", 16);
+    /**
+     * Number of buffers waiting to be written to the socket above which no chunk is sent.
+     */
+    static final int BACKLOG_LIMIT = Integer.getInteger("minestom.chunk-send-backlog", 4);
+
+    private final Player player;
+    private final NetworkStatistics statistics;
+    private final Long2ObjectMap<CompletableFuture<Chunk>> pending = new Long2ObjectOpenHashMap<>();
+
+    ChunkSendQueue(@NotNull Player player) {
+        this.player = player;
+        // Only socket connections have a flush backlog, others are sent immediately
+        this.statistics = CHUNKS_PER_TICK > 0 && player.getPlayerConnection() instanceof PlayerSocketConnection connection ?
+                connection.statistics() : null;
+    }
+
+    /**
+     * Gets if chunks must go through the queue, otherwise they can be sent as soon as they are loaded.
+     *
+     * @return true if the chunk sends are limited
+     */
+    boolean isLimited() {
+        return statistics != null;
+    }
+
+    synchronized void add(int chunkX, int chunkZ, @NotNull CompletableFuture<Chunk> future) {
+        this.pending.put(getChunkIndex(chunkX, chunkZ), future);
+    }
+
+    /**
+     * Removes a chunk which left the view.
+     *
+     * @return true if the chunk was still waiting, and has therefore never been sent
+     */
+    synchronized boolean remove(int chunkX, int chunkZ) {
+        return pending.remove(getChunkIndex(chunkX, chunkZ)) != null;
+    }
+
+    synchronized void clear() {
+        this.pending.clear();
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * Sends the nearest loaded chunks within the budget of the current tick.
+     *
+     * @param centerX the chunk X of the view center
+     * @param centerZ the chunk Z of the view center
+     */
+    void process(int centerX, int centerZ) {
+        final int budget = budget(statistics.waitingBuffers());
+        if (budget == 0) return;
+        final List<Chunk> chunks = poll(centerX, centerZ, budget);
+        if (chunks == null) return;
+        for (Chunk chunk : chunks) {
+            try {
+                chunk.sendChunk(player);
+                EventDispatcher.call(new PlayerChunkLoadEvent(player, chunk.getChunkX(), chunk.getChunkZ()));
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+    }
+
+    static int budget(int waitingBuffers) {
+        if (waitingBuffers >= BACKLOG_LIMIT) return 0;
+        return Math.max(1, CHUNKS_PER_TICK >> waitingBuffers);
+    }
+
+    private synchronized List<Chunk> poll(int centerX, int centerZ, int budget) {
+        if (pending.isEmpty()) return null;
+        List<Chunk> ready = null;
+        Iterator<CompletableFuture<Chunk>> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            final CompletableFuture<Chunk> future = iterator.next();
+            if (!future.isDone()) continue;
+            final Chunk chunk = future.isCompletedExceptionally() ? null : future.join();
+            if (chunk == null || !chunk.isLoaded()) {
+                // Load cancelled or failed
+                iterator.remove();
+                continue;
+            }
+            if (ready == null) ready = new ArrayList<>();
+            ready.add(chunk);
+        }
+        if (ready == null) return null;
+        if (ready.size() > budget) {
+            ready.sort(Comparator.comparingInt(chunk -> {
+                final int dx = chunk.getChunkX() - centerX;
+                final int dz = chunk.getChunkZ() - centerZ;
+                return dx * dx + dz * dz;
+            }));
+            ready = ready.subList(0, budget);
+        }
+        for (Chunk chunk : ready) {
+            this.pending.remove(getChunkIndex(chunk.getChunkX(), chunk.getChunkZ()));
+        }
+        return ready;
+    }
+}
@@ -48,6 +48,7 @@ import net.minestom.server.snapshot.Snapshotable;
 import net.minestom.server.tag.TagHandler;
 import net.minestom.server.tag.Taggable;
 import net.minestom.server.thread.Acquirable;
+import net.minestom.server.thread.Mailbox;
 import net.minestom.server.timer.Schedulable;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.timer.TaskSchedule;
@@ -190,6 +191,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     protected boolean tickNoViewers = true;
 
     private final Acquirable<Entity> acquirable = Acquirable.of(this);
+    private final Mailbox<Entity> mailbox = Mailbox.of(this);
 
     public Entity(@NotNull EntityType entityType, @NotNull UUID uuid) {
         this.id = generateId();
@@ -630,6 +632,10 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         if (instance == null || isRemoved() || !ChunkUtils.isLoaded(currentChunk))
             return;
 
+        // Messages sent from other threads
+        this.mailbox.drain();
+        if (isRemoved()) return;
+
         if (!this.tickNoViewers && getViewers().isEmpty()) return;
 
         // scheduled tasks
@@ -1661,6 +1667,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         if (vehicle != null) vehicle.removePassenger(this);
         MinecraftServer.process().dispatcher().removeElement(this);
         this.removed = true;
+        this.mailbox.close();
         Entity.ENTITY_BY_ID.remove(id);
         Entity.ENTITY_BY_UUID.remove(uuid);
         Instance currentInstance = this.instance;
@@ -1769,6 +1776,18 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         return (Acquirable<T>) acquirable;
     }
 
+    /**
+     * Gets the mailbox of this entity, used to execute code in the entity thread without blocking.
+     * <p>
+     * Messages are executed at the start of the entity tick.
+     *
+     * @return the entity mailbox
+     */
+    @ApiStatus.Experimental
+    public @NotNull Mailbox<Entity> mailbox() {
+        return mailbox;
+    }
+
     @Override
     public @NotNull TagHandler tagHandler() {
         return tagHandler;
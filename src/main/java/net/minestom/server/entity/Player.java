@@ -43,6 +43,7 @@ import net.minestom.server.inventory.PlayerInventory;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.item.metadata.WrittenBookMeta;
+import net.minestom.server.listener.MovementSlot;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatMessageType;
 import net.minestom.server.message.ChatPosition;
@@ -69,6 +70,7 @@ import net.minestom.server.snapshot.PlayerSnapshot;
 import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.statistic.PlayerStatistic;
+import net.minestom.server.thread.TickThread;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.PacketUtils;
@@ -130,20 +132,14 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * in the range of {@link MinecraftServer#getChunkViewDistance()}
      */
     private Vec chunksLoadedByClient = Vec.ZERO;
+    private final ChunkSendQueue chunkQueue;
     final IntegerBiConsumer chunkAdder = (chunkX, chunkZ) -> {
         // Load new chunks
-        this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(chunk -> {
-            try {
-                if (chunk != null) {
-                    chunk.sendChunk(this);
-                    EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
-                }
-            } catch (Exception e) {
-                MinecraftServer.getExceptionManager().handleException(e);
-            }
-        });
+        queueChunk(chunkX, chunkZ, this.instance.loadViewedChunk(chunkX, chunkZ));
     };
     final IntegerBiConsumer chunkRemover = (chunkX, chunkZ) -> {
+        // Chunks still in the queue have never been sent
+        if (chunkQueue.remove(chunkX, chunkZ)) return;
         // Unload old chunks
         sendPacket(new UnloadChunkPacket(chunkX, chunkZ));
         EventDispatcher.call(new PlayerChunkUnloadEvent(this, chunkX, chunkZ));
@@ -153,6 +149,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private int receivedTeleportId;
 
     private final MessagePassingQueue<ClientPacket> packets = new MpscUnboundedXaddArrayQueue<>(32);
+    private final MovementSlot movementSlot = new MovementSlot();
     private final boolean levelFlat;
     private final PlayerSettings settings;
     private float exp;
@@ -209,6 +206,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         this.username = username;
         this.usernameComponent = Component.text(username);
         this.playerConnection = playerConnection;
+        this.chunkQueue = new ChunkSendQueue(this);
 
         setRespawnPoint(Pos.ZERO);
 
@@ -367,7 +365,15 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     @Override
     public void update(long time) {
         // Process received packets
+        final long packetStart = System.nanoTime();
         interpretPacketQueue();
+        TickThread.addPacketTime(System.nanoTime() - packetStart);
+
+        // Send the loaded chunks within the tick budget
+        if (chunkQueue.isLimited()) {
+            final Vec center = chunksLoadedByClient;
+            this.chunkQueue.process((int) center.x(), (int) center.z());
+        }
 
         super.update(time); // Super update (item pickup/fire management)
 
@@ -484,16 +490,10 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         Pos respawnPosition = respawnEvent.getRespawnPosition();
 
         // The client unloads chunks when respawning, so resend all chunks next to spawn
-        ChunkUtils.forChunksInRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()), (chunkX, chunkZ) ->
-                this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(chunk -> {
-                    try {
-                        if (chunk != null) {
-                            chunk.sendChunk(this);
-                        }
-                    } catch (Exception e) {
-                        MinecraftServer.getExceptionManager().handleException(e);
-                    }
-                }));
+        // Required loads, their priority would otherwise still be computed from the death position
+        this.chunkQueue.clear();
+        ChunkUtils.forChunksInRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()),
+                (chunkX, chunkZ) -> queueChunk(chunkX, chunkZ, instance.loadOptionalChunk(chunkX, chunkZ)));
         chunksLoadedByClient = new Vec(respawnPosition.chunkX(), respawnPosition.chunkZ());
         // Client also needs all entities resent to them, since those are unloaded as well
         this.instance.getEntityTracker().nearbyEntitiesByChunkRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()),
@@ -506,6 +506,24 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         teleport(respawnPosition).thenRun(this::refreshAfterTeleport);
     }
 
+    private void queueChunk(int chunkX, int chunkZ, @NotNull CompletableFuture<Chunk> future) {
+        if (chunkQueue.isLimited()) {
+            // Sent nearest first in the next ticks
+            this.chunkQueue.add(chunkX, chunkZ, future);
+            return;
+        }
+        future.thenAccept(chunk -> {
+            try {
+                if (chunk != null) {
+                    chunk.sendChunk(this);
+                    EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
+                }
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        });
+    }
+
     /**
      * Sends necessary packets to synchronize player data after a {@link RespawnPacket}
      */
@@ -536,6 +554,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         EventDispatcher.call(new PlayerDisconnectEvent(this));
         super.remove();
         this.packets.clear();
+        this.movementSlot.clear();
         final Inventory currentInventory = getOpenInventory();
         if (currentInventory != null) currentInventory.removeViewer(this);
         MinecraftServer.getBossBarManager().removeAllBossBars(this);
@@ -690,6 +709,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
             chunksLoadedByClient = new Vec(chunkX, chunkZ);
             chunkUpdateLimitChecker.addToHistory(getChunk());
             sendPacket(new UpdateViewPositionPacket(chunkX, chunkZ));
+            this.chunkQueue.clear();
             ChunkUtils.forChunksInRange(spawnPosition, MinecraftServer.getChunkViewDistance(), chunkAdder);
         }
 
@@ -1798,9 +1818,19 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * @param packet the packet to add in the queue
      */
     public void addPacketToQueue(@NotNull ClientPacket packet) {
+        if (movementSlot.isPending()) {
+            // Keep the movement ordered relative to the new packet
+            final ClientPacket movement = movementSlot.take();
+            if (movement != null) this.packets.offer(movement);
+        }
         this.packets.offer(packet);
     }
 
+    @ApiStatus.Internal
+    public @NotNull MovementSlot movementSlot() {
+        return movementSlot;
+    }
+
     @ApiStatus.Internal
     @ApiStatus.Experimental
     public void interpretPacketQueue() {
@@ -1811,6 +1841,8 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         final PacketListenerManager manager = MinecraftServer.getPacketListenerManager();
         // This method is NOT thread-safe
         this.packets.drain(packet -> manager.processClientPacket(packet, this), PACKET_PER_TICK);
+        // Movement is always more recent than the queued packets
+        if (this.packets.isEmpty()) this.movementSlot.apply(this);
     }
 
     /**
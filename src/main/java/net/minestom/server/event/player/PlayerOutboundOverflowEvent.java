@@ -0,0 +1,39 @@
+package net.minestom.server.event.player;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.trait.PlayerEvent;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called when a player connection starts exceeding its outbound budget,
+ * meaning that the client does not consume data as fast as the server produces it.
+ * <p>
+ * Called asynchronously from the connection worker thread, once per overflow period.
+ *
+ * @see net.minestom.server.network.player.OverflowPolicy
+ */
+@ApiStatus.Experimental
+public class PlayerOutboundOverflowEvent implements PlayerEvent {
+    private final Player player;
+    private final long pendingBytes;
+
+    public PlayerOutboundOverflowEvent(@NotNull Player player, long pendingBytes) {
+        this.player = player;
+        this.pendingBytes = pendingBytes;
+    }
+
+    @Override
+    public @NotNull Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the amount of bytes waiting to be sent to the client.
+     *
+     * @return the pending bytes
+     */
+    public long getPendingBytes() {
+        return pendingBytes;
+    }
+}
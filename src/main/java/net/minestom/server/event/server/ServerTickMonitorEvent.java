@@ -2,8 +2,17 @@ package net.minestom.server.event.server;
 
 import net.minestom.server.event.Event;
 import net.minestom.server.monitoring.TickMonitor;
+import net.minestom.server.monitoring.TickPhase;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
+/**
+ * Called at the end of each tick with the tick profile: phase times, tick thread usage
+ * and, when {@code minestom.profile-entity-types} is enabled, entity tick times by type.
+ * <p>
+ * The same profile is emitted as JDK Flight Recorder events, see {@link net.minestom.server.monitoring.TickRecording}.
+ */
 public final class ServerTickMonitorEvent implements Event {
     private final TickMonitor tickMonitor;
 
@@ -14,4 +23,12 @@ public final class ServerTickMonitorEvent implements Event {
     public @NotNull TickMonitor getTickMonitor() {
         return tickMonitor;
     }
+
+    public @NotNull TickPhase getSlowestPhase() {
+        return tickMonitor.getSlowestPhase();
+    }
+
+    public @NotNull List<TickMonitor.@NotNull ThreadProfile> getThreadProfiles() {
+        return tickMonitor.getThreadProfiles();
+    }
 }
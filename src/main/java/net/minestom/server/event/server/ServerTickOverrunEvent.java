@@ -0,0 +1,59 @@
+package net.minestom.server.event.server;
+
+import net.minestom.server.event.Event;
+import net.minestom.server.monitoring.TickMonitor;
+import net.minestom.server.monitoring.TickPhase;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called from the tick scheduler thread when a tick took longer than the tick length.
+ *
+ * @see net.minestom.server.thread.TickOverrunPolicy
+ */
+public final class ServerTickOverrunEvent implements Event {
+    private final TickMonitor tickMonitor;
+    private final double overrunTime;
+    private final int skippedTicks;
+
+    public ServerTickOverrunEvent(@NotNull TickMonitor tickMonitor, double overrunTime, int skippedTicks) {
+        this.tickMonitor = tickMonitor;
+        this.overrunTime = overrunTime;
+        this.skippedTicks = skippedTicks;
+    }
+
+    /**
+     * Gets the monitoring data of the slow tick, including the time spent in each phase.
+     *
+     * @return the tick monitor
+     */
+    public @NotNull TickMonitor getTickMonitor() {
+        return tickMonitor;
+    }
+
+    /**
+     * Gets the phase which took the most time.
+     *
+     * @return the slowest phase
+     */
+    public @NotNull TickPhase getSlowestPhase() {
+        return tickMonitor.getSlowestPhase();
+    }
+
+    /**
+     * Gets the time by which the tick exceeded the tick length.
+     *
+     * @return the overrun time in milliseconds
+     */
+    public double getOverrunTime() {
+        return overrunTime;
+    }
+
+    /**
+     * Gets the number of ticks skipped by the {@link net.minestom.server.thread.TickOverrunPolicy}.
+     *
+     * @return the number of skipped ticks, 0 if the schedule is only delayed or caught up
+     */
+    public int getSkippedTicks() {
+        return skippedTicks;
+    }
+}
@@ -0,0 +1,108 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.block.BlockUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Block changes of an instance waiting to be sent to the chunk viewers, flushed once per tick.
+ * <p>
+ * Changes are grouped by section: a single change is sent as a {@link BlockChangePacket},
+ * several as a {@link MultiBlockChangePacket}, and a chunk with more than {@link #CHUNK_RESEND_THRESHOLD}
+ * changes is sent again entirely.
+ */
+final class BlockChangeBuffer {
+    static final int CHUNK_RESEND_THRESHOLD = Integer.getInteger("minestom.chunk-resend-threshold", 4096);
+
+    private final Map<Chunk, Changes> changes = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a block change, must be called while holding the chunk monitor.
+     */
+    void add(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block) {
+        final Changes chunkChanges = changes.computeIfAbsent(chunk, c -> new Changes());
+        if (chunkChanges.resend) return;
+        chunkChanges.blocks.put(ChunkUtils.getBlockIndex(x, y, z), block);
+        if (chunkChanges.blocks.size() > CHUNK_RESEND_THRESHOLD) {
+            chunkChanges.resend = true;
+            chunkChanges.blocks.clear();
+        }
+    }
+
+    /**
+     * Sends the buffered changes to the viewers of their chunks.
+     */
+    void flush() {
+        if (changes.isEmpty()) return;
+        for (Chunk chunk : changes.keySet()) {
+            final Changes chunkChanges;
+            synchronized (chunk) {
+                chunkChanges = changes.remove(chunk);
+            }
+            if (chunkChanges == null || !chunk.isLoaded() || chunk.getViewers().isEmpty()) continue;
+            if (chunkChanges.resend) {
+                chunk.sendChunk();
+            } else {
+                send(chunk, chunkChanges.blocks);
+            }
+        }
+    }
+
+    private static void send(Chunk chunk, Int2ObjectMap<Block> blocks) {
+        final int chunkX = chunk.getChunkX();
+        final int chunkZ = chunk.getChunkZ();
+        // Section y -> encoded changes
+        Int2ObjectMap<LongArrayList> sections = new Int2ObjectOpenHashMap<>();
+        for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+            final int index = entry.getIntKey();
+            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+            final long encoded = (long) entry.getValue().stateId() << 12 | x << 8 | z << 4 | (y & 0xF);
+            sections.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), s -> new LongArrayList()).add(encoded);
+        }
+        for (Int2ObjectMap.Entry<LongArrayList> entry : sections.int2ObjectEntrySet()) {
+            final int sectionY = entry.getIntKey();
+            final LongArrayList sectionChanges = entry.getValue();
+            if (sectionChanges.size() == 1) {
+                final long encoded = sectionChanges.getLong(0);
+                final Vec position = new Vec(chunkX * Chunk.CHUNK_SIZE_X + (int) (encoded >> 8 & 0xF),
+                        sectionY * Chunk.CHUNK_SECTION_SIZE + (int) (encoded & 0xF),
+                        chunkZ * Chunk.CHUNK_SIZE_Z + (int) (encoded >> 4 & 0xF));
+                chunk.sendPacketToViewers(new BlockChangePacket(position, (int) (encoded >>> 12)));
+            } else {
+                chunk.sendPacketToViewers(new MultiBlockChangePacket(chunkX, sectionY, chunkZ,
+                        false, sectionChanges.toLongArray()));
+            }
+        }
+        // Block entities are sent after their block
+        for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+            final Block block = entry.getValue();
+            final var registry = block.registry();
+            if (!registry.isBlockEntity()) continue;
+            final int index = entry.getIntKey();
+            final Vec position = new Vec(chunkX * Chunk.CHUNK_SIZE_X + ChunkUtils.blockIndexToChunkPositionX(index),
+                    ChunkUtils.blockIndexToChunkPositionY(index),
+                    chunkZ * Chunk.CHUNK_SIZE_Z + ChunkUtils.blockIndexToChunkPositionZ(index));
+            chunk.sendPacketToViewers(new BlockEntityDataPacket(position, registry.blockEntityId(),
+                    BlockUtils.extractClientNbt(block)));
+        }
+    }
+
+    private static final class Changes {
+        // Block index -> last block set, guarded by the chunk monitor
+        private final Int2ObjectOpenHashMap<Block> blocks = new Int2ObjectOpenHashMap<>();
+        private boolean resend;
+    }
+}
@@ -200,6 +200,16 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         return maxSection;
     }
 
+    /**
+     * Gets the heightmap of this chunk for a type.
+     *
+     * @param type the heightmap type
+     * @return the heightmap, null if not maintained by this chunk implementation
+     */
+    public @Nullable Heightmap getHeightmap(@NotNull Heightmap.Type type) {
+        return null;
+    }
+
     /**
      * Gets the world position of this chunk.
      *
@@ -0,0 +1,308 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.thread.MinestomThread;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Executor dedicated to chunk loading and generation, separated from the common pool used by async tasks.
+ * <p>
+ * Tasks are executed in order of priority (lowest first), usually the squared distance to the nearest viewer.
+ * Priorities are re-evaluated at most once per tick, so that chunks near moving players are loaded first.
+ * A cancellable task whose priority becomes {@link Long#MAX_VALUE} is dropped.
+ */
+@ApiStatus.Experimental
+public final class ChunkExecutor {
+    public static final int THREAD_COUNT = Integer.getInteger("minestom.chunk-threads",
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    private static final long REPRIORITIZE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(MinecraftServer.TICK_MS);
+    private static final Comparator<Task> ORDER = Comparator.<Task>comparingLong(task -> task.priority)
+            .thenComparingLong(task -> task.sequence);
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static volatile ChunkExecutor shared;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private PriorityQueue<Task> queue = new PriorityQueue<>(ORDER);
+    private long sequence;
+    private long lastReprioritize;
+    private volatile boolean stop;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder latency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public ChunkExecutor(int threadCount) {
+        if (threadCount < 1) throw new IllegalArgumentException("Thread count must be positive");
+        final int id = COUNTER.getAndIncrement();
+        for (int i = 0; i < threadCount; i++) {
+            Worker worker = new Worker("Ms-chunk-" + id + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Gets the executor shared by all the instances, using {@link #THREAD_COUNT} threads.
+     *
+     * @return the shared executor
+     */
+    public static @NotNull ChunkExecutor shared() {
+        ChunkExecutor executor = shared;
+        if (executor == null) {
+            synchronized (ChunkExecutor.class) {
+                executor = shared;
+                if (executor == null) shared = executor = new ChunkExecutor(THREAD_COUNT);
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Gets if the current thread belongs to a chunk executor, in which case chunk work can run inline.
+     *
+     * @return true if called from a chunk executor thread
+     */
+    public static boolean isChunkThread() {
+        return Thread.currentThread() instanceof Worker;
+    }
+
+    /**
+     * Creates a task, which must then be started with {@link #submit(Task)}.
+     *
+     * @param runnable    the work to execute
+     * @param priority    the task priority, lower values are executed first
+     * @param onCancel    the callback executed if the task is dropped, null if the task cannot be cancelled
+     * @return the created task
+     */
+    public @NotNull Task task(@NotNull Runnable runnable, @NotNull LongSupplier priority, @Nullable Runnable onCancel) {
+        return new Task(runnable, priority, onCancel);
+    }
+
+    public void submit(@NotNull Task task) {
+        final long priority = task.prioritySupplier.getAsLong();
+        this.lock.lock();
+        try {
+            task.priority = priority;
+            task.sequence = sequence++;
+            task.submitTime = System.nanoTime();
+            this.queue.add(task);
+            this.notEmpty.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public @NotNull Task submit(@NotNull Runnable runnable, @NotNull LongSupplier priority) {
+        final Task task = task(runnable, priority, null);
+        submit(task);
+        return task;
+    }
+
+    /**
+     * Gets the executor statistics.
+     *
+     * @return the statistics, latencies are measured from submission to execution start
+     */
+    public @NotNull Statistics statistics() {
+        final long completed = this.completed.sum();
+        final int queued;
+        this.lock.lock();
+        try {
+            queued = queue.size();
+        } finally {
+            this.lock.unlock();
+        }
+        return new Statistics(queued, completed, cancelled.sum(),
+                completed != 0 ? latency.sum() / completed : 0, maxLatency.get());
+    }
+
+    /**
+     * Stops the executor threads, pending tasks are not executed.
+     */
+    public void shutdown() {
+        this.lock.lock();
+        try {
+            this.stop = true;
+            this.notEmpty.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private @Nullable Task take(List<Task> dropped) throws InterruptedException {
+        while (true) {
+            final List<Task> snapshot;
+            this.lock.lock();
+            try {
+                while (true) {
+                    if (stop) return null;
+                    if (!queue.isEmpty()) {
+                        final long time = System.nanoTime();
+                        if (time - lastReprioritize < REPRIORITIZE_INTERVAL) return queue.poll();
+                        this.lastReprioritize = time;
+                        snapshot = new ArrayList<>(queue);
+                        break;
+                    }
+                    this.notEmpty.await();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            // Priority suppliers may lock the instance, never call them while holding the executor lock
+            final long[] priorities = new long[snapshot.size()];
+            for (int i = 0; i < priorities.length; i++) {
+                priorities[i] = snapshot.get(i).prioritySupplier.getAsLong();
+            }
+            reprioritize(snapshot, priorities, dropped);
+            if (!dropped.isEmpty()) return null;
+        }
+    }
+
+    private void reprioritize(List<Task> snapshot, long[] priorities, List<Task> dropped) {
+        Map<Task, Long> updated = new IdentityHashMap<>(snapshot.size());
+        for (int i = 0; i < priorities.length; i++) {
+            final Task task = snapshot.get(i);
+            final long priority = priorities[i];
+            if (priority == Long.MAX_VALUE && task.cancel()) {
+                dropped.add(task);
+                continue;
+            }
+            updated.put(task, priority);
+        }
+        this.lock.lock();
+        try {
+            // Tasks polled in the meantime are not added back, those submitted in the meantime keep their priority
+            List<Task> tasks = new ArrayList<>(queue.size());
+            for (Task task : queue) {
+                if (task.isCancelled()) continue;
+                final Long priority = updated.get(task);
+                if (priority != null) task.priority = priority;
+                tasks.add(task);
+            }
+            this.queue = new PriorityQueue<>(Math.max(1, tasks.size()), ORDER);
+            this.queue.addAll(tasks);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @param queued              the number of tasks waiting for execution
+     * @param completed           the number of executed tasks
+     * @param cancelled           the number of dropped tasks
+     * @param averageLatencyNanos the average wait time before execution
+     * @param maxLatencyNanos     the highest wait time before execution
+     */
+    public record Statistics(int queued, long completed, long cancelled,
+                             long averageLatencyNanos, long maxLatencyNanos) {
+    }
+
+    public static final class Task {
+        private static final int PENDING = 0, PINNED = 1, RUNNING = 2, CANCELLED = 3;
+
+        private final Runnable runnable;
+        private final LongSupplier prioritySupplier;
+        private final Runnable cancelCallback;
+        private final AtomicInteger state;
+        // Guarded by the executor lock
+        private long priority;
+        private long sequence;
+        private long submitTime;
+
+        private Task(Runnable runnable, LongSupplier prioritySupplier, Runnable cancelCallback) {
+            this.runnable = runnable;
+            this.prioritySupplier = prioritySupplier;
+            this.cancelCallback = cancelCallback;
+            this.state = new AtomicInteger(cancelCallback != null ? PENDING : PINNED);
+        }
+
+        /**
+         * Prevents the task from being cancelled.
+         *
+         * @return false if the task has already been cancelled
+         */
+        public boolean pin() {
+            final int state = this.state.compareAndExchange(PENDING, PINNED);
+            return state != CANCELLED;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        private boolean start() {
+            // The task may be pinned concurrently, retry until it either starts or is cancelled
+            int state;
+            while ((state = this.state.get()) != CANCELLED) {
+                if (this.state.compareAndSet(state, RUNNING)) return true;
+            }
+            return false;
+        }
+    }
+
+    private final class Worker extends MinestomThread {
+        Worker(String name) {
+            super(name);
+        }
+
+        @Override
+        public void run() {
+            List<Task> dropped = new ArrayList<>();
+            while (true) {
+                final Task task;
+                try {
+                    task = take(dropped);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (!dropped.isEmpty()) {
+                    // Callbacks are executed outside the lock
+                    for (Task droppedTask : dropped) {
+                        cancelled.increment();
+                        execute(droppedTask.cancelCallback);
+                    }
+                    dropped.clear();
+                    continue;
+                }
+                if (task == null) return;
+                if (!task.start()) continue;
+                final long wait = System.nanoTime() - task.submitTime;
+                latency.add(wait);
+                maxLatency.accumulateAndGet(wait, Math::max);
+                execute(task.runnable);
+                completed.increment();
+            }
+        }
+    }
+
+    private static void execute(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+}
@@ -9,7 +9,6 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.entity.pathfinding.PFBlock;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
-import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
 import net.minestom.server.network.packet.server.play.UpdateLightPacket;
@@ -19,8 +18,6 @@ import net.minestom.server.snapshot.ChunkSnapshot;
 import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.utils.ArrayUtils;
-import net.minestom.server.utils.MathUtils;
-import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
 import org.jetbrains.annotations.NotNull;
@@ -38,6 +35,7 @@ import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordi
  * WARNING: not thread-safe.
  */
 public class DynamicChunk extends Chunk {
+    private static final Heightmap.Type[] HEIGHTMAP_TYPES = Heightmap.Type.values();
 
     private List<Section> sections;
 
@@ -45,15 +43,19 @@ public class DynamicChunk extends Chunk {
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
 
+    private final Heightmap[] heightmaps = new Heightmap[HEIGHTMAP_TYPES.length];
     private long lastChange;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
     final CachedPacket lightCache = new CachedPacket(this::createLightPacket);
+    // Whether the light is maintained by the instance LightEngine
+    volatile boolean lit;
 
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
         super(instance, chunkX, chunkZ, true);
         var sectionsTemp = new Section[maxSection - minSection];
         Arrays.setAll(sectionsTemp, value -> new Section());
         this.sections = List.of(sectionsTemp);
+        Arrays.setAll(heightmaps, value -> new Heightmap(this, HEIGHTMAP_TYPES[value]));
     }
 
     @Override
@@ -61,7 +63,6 @@ public class DynamicChunk extends Chunk {
         assertLock();
         this.lastChange = System.currentTimeMillis();
         this.chunkCache.invalidate();
-        this.lightCache.invalidate();
         // Update pathfinder
         if (columnarSpace != null) {
             final ColumnarOcclusionFieldList columnarOcclusionFieldList = columnarSpace.occlusionFields();
@@ -69,8 +70,23 @@ public class DynamicChunk extends Chunk {
             columnarOcclusionFieldList.onBlockChanged(x, y, z, blockDescription, 0);
         }
         Section section = getSectionAt(y);
-        section.blockPalette()
-                .set(toSectionRelativeCoordinate(x), toSectionRelativeCoordinate(y), toSectionRelativeCoordinate(z), block.stateId());
+        final int sectionX = toSectionRelativeCoordinate(x);
+        final int sectionY = toSectionRelativeCoordinate(y);
+        final int sectionZ = toSectionRelativeCoordinate(z);
+        final int previousState = section.blockPalette().get(sectionX, sectionY, sectionZ);
+        section.blockPalette().set(sectionX, sectionY, sectionZ, block.stateId());
+        if (previousState != block.stateId()) {
+            section.invalidate();
+            for (Heightmap heightmap : heightmaps) heightmap.update(sectionX, y, sectionZ, block);
+        }
+        // Light is recomputed during the next instance tick
+        if (lit && previousState != block.stateId() && instance instanceof InstanceContainer container) {
+            final LightEngine lightEngine = container.getLightEngine();
+            if (lightEngine != null) {
+                lightEngine.blockChanged(chunkX * CHUNK_SIZE_X + sectionX, y, chunkZ * CHUNK_SIZE_Z + sectionZ,
+                        previousState, block);
+            }
+        }
 
         final int index = ChunkUtils.getBlockIndex(x, y, z);
         // Handler
@@ -97,6 +113,20 @@ public class DynamicChunk extends Chunk {
                 toSectionRelativeCoordinate(x) / 4,
                 toSectionRelativeCoordinate(y) / 4,
                 toSectionRelativeCoordinate(z) / 4, biome.id());
+        section.invalidate();
+    }
+
+    @Override
+    public @NotNull Heightmap getHeightmap(@NotNull Heightmap.Type type) {
+        return heightmaps[type.ordinal()];
+    }
+
+    /**
+     * Recomputes the heightmaps from the sections, must be called after modifying the palettes directly.
+     */
+    public void refreshHeightmaps() {
+        Heightmap.refresh(sections, heightmaps);
+        this.chunkCache.invalidate();
     }
 
     @Override
@@ -174,6 +204,8 @@ public class DynamicChunk extends Chunk {
         DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ);
         dynamicChunk.sections = sections.stream().map(Section::clone).toList();
         dynamicChunk.entries.putAll(entries);
+        dynamicChunk.lit = lit;
+        dynamicChunk.refreshHeightmaps();
         return dynamicChunk;
     }
 
@@ -181,32 +213,32 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        this.lit = false;
+        refreshHeightmaps();
     }
 
     private synchronized @NotNull ChunkDataPacket createChunkPacket() {
-        final NBTCompound heightmapsNBT;
-        // TODO: don't hardcode heightmaps
-        // Heightmap
-        {
-            int dimensionHeight = getInstance().getDimensionType().getHeight();
-            int[] motionBlocking = new int[16 * 16];
-            int[] worldSurface = new int[16 * 16];
-            for (int x = 0; x < 16; x++) {
-                for (int z = 0; z < 16; z++) {
-                    motionBlocking[x + z * 16] = 0;
-                    worldSurface[x + z * 16] = dimensionHeight - 1;
-                }
-            }
-            final int bitsForHeight = MathUtils.bitsToRepresent(dimensionHeight);
-            heightmapsNBT = NBT.Compound(Map.of(
-                    "MOTION_BLOCKING", NBT.LongArray(encodeBlocks(motionBlocking, bitsForHeight)),
-                    "WORLD_SURFACE", NBT.LongArray(encodeBlocks(worldSurface, bitsForHeight))));
+        // Heightmaps, encodings are cached until the next change
+        Map<String, NBT> heightmapsEntries = new HashMap<>();
+        for (Heightmap heightmap : heightmaps) {
+            if (!heightmap.type().sentToClient()) continue;
+            heightmapsEntries.put(heightmap.type().name(), NBT.LongArray(heightmap.encode()));
+        }
+        final NBTCompound heightmapsNBT = NBT.Compound(heightmapsEntries);
+        // Data, only the modified sections are re-encoded
+        final byte[][] encodedSections = new byte[sections.size()][];
+        int length = 0;
+        for (int i = 0; i < encodedSections.length; i++) {
+            final byte[] encoded = sections.get(i).encoded();
+            encodedSections[i] = encoded;
+            length += encoded.length;
+        }
+        final byte[] data = new byte[length];
+        int offset = 0;
+        for (byte[] encoded : encodedSections) {
+            System.arraycopy(encoded, 0, data, offset, encoded.length);
+            offset += encoded.length;
         }
-        // Data
-        final byte[] data = ObjectPool.PACKET_POOL.use(buffer ->
-                NetworkBuffer.makeArray(networkBuffer -> {
-                    for (Section section : sections) networkBuffer.write(section);
-                }));
         return new ChunkDataPacket(chunkX, chunkZ,
                 new ChunkData(heightmapsNBT, data, entries),
                 createLightData());
@@ -216,7 +248,31 @@ public class DynamicChunk extends Chunk {
         return new UpdateLightPacket(chunkX, chunkZ, createLightData());
     }
 
+    void invalidateLight() {
+        this.chunkCache.invalidate();
+        this.lightCache.invalidate();
+    }
+
+    /**
+     * Sends the light of some sections to the viewers, after a light update.
+     *
+     * @param sections the modified sections, relative to {@link #getMinSection()}
+     */
+    void sendLight(@NotNull BitSet sections) {
+        invalidateLight();
+        if (getViewers().isEmpty()) return;
+        final LightData lightData;
+        synchronized (this) {
+            lightData = createLightData(sections);
+        }
+        sendPacketToViewers(new UpdateLightPacket(chunkX, chunkZ, lightData));
+    }
+
     private LightData createLightData() {
+        return createLightData(null);
+    }
+
+    private LightData createLightData(@Nullable BitSet includedSections) {
         BitSet skyMask = new BitSet();
         BitSet blockMask = new BitSet();
         BitSet emptySkyMask = new BitSet();
@@ -227,6 +283,8 @@ public class DynamicChunk extends Chunk {
         int index = 0;
         for (Section section : sections) {
             index++;
+            // Sections absent from both masks are left unchanged by the client
+            if (includedSections != null && !includedSections.get(index - 1)) continue;
             final byte[] skyLight = section.getSkyLight();
             final byte[] blockLight = section.getBlockLight();
             if (skyLight.length != 0) {
@@ -286,7 +344,7 @@ public class DynamicChunk extends Chunk {
             70409299, 70409299, 0, 69273666, 69273666, 0, 68174084, 68174084, 0, Integer.MIN_VALUE,
             0, 5};
 
-    private static long[] encodeBlocks(int[] blocks, int bitsPerEntry) {
+    static long[] encodeBlocks(int[] blocks, int bitsPerEntry) {
         final long maxEntryValue = (1L << bitsPerEntry) - 1;
         final char valuesPerLong = (char) (64 / bitsPerEntry);
         final int magicIndex = 3 * (valuesPerLong - 1);
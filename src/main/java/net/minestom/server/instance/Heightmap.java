@@ -0,0 +1,170 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.MathUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Highest block of each column of a chunk matching a {@link Type}, maintained by {@link DynamicChunk#setBlock(int, int, int, Block)}.
+ * <p>
+ * Reads are O(1), updates are O(1) unless the highest block of a column is removed.
+ */
+public final class Heightmap {
+    private final DynamicChunk chunk;
+    private final Type type;
+    private final int minY;
+    // Highest matching block + 1 for each column, relative to minY (0 if none)
+    private final short[] heights = new short[Chunk.CHUNK_SIZE_X * Chunk.CHUNK_SIZE_Z];
+    private long[] encoded;
+
+    Heightmap(@NotNull DynamicChunk chunk, @NotNull Type type) {
+        this.chunk = chunk;
+        this.type = type;
+        this.minY = chunk.getMinSection() * Chunk.CHUNK_SECTION_SIZE;
+    }
+
+    public @NotNull Type type() {
+        return type;
+    }
+
+    /**
+     * Gets the height of a column, the position right above its highest matching block.
+     *
+     * @param x the x coordinate, only the chunk relative part is used
+     * @param z the z coordinate, only the chunk relative part is used
+     * @return the first y coordinate above the highest matching block, the chunk minimum y if none
+     */
+    public int getHeight(int x, int z) {
+        return minY + heights[index(x, z)];
+    }
+
+    void update(int x, int y, int z, @NotNull Block block) {
+        final int index = index(x, z);
+        final int height = heights[index];
+        final int relativeY = y - minY;
+        if (type.test(block)) {
+            if (relativeY >= height) set(index, relativeY + 1);
+        } else if (relativeY == height - 1) {
+            // Highest block removed, look for the next one
+            int newHeight = relativeY;
+            while (newHeight > 0 && !type.test(blockAt(x, minY + newHeight - 1, z))) {
+                newHeight--;
+            }
+            set(index, newHeight);
+        }
+    }
+
+    private Block blockAt(int x, int y, int z) {
+        final int stateId = chunk.getSectionAt(y).blockPalette().get(x & 0xF, y & 0xF, z & 0xF);
+        final Block block = Block.fromStateId((short) stateId);
+        return block != null ? block : Block.AIR;
+    }
+
+    private void set(int index, int height) {
+        if (heights[index] == height) return;
+        this.heights[index] = (short) height;
+        this.encoded = null;
+    }
+
+    /**
+     * Gets the heights in the network format.
+     *
+     * @return the encoded heights, cached until the next change
+     */
+    long @NotNull [] encode() {
+        long[] encoded = this.encoded;
+        if (encoded == null) {
+            int[] values = new int[heights.length];
+            for (int i = 0; i < values.length; i++) values[i] = heights[i];
+            final int bitsPerEntry = MathUtils.bitsToRepresent(chunk.getInstance().getDimensionType().getHeight());
+            this.encoded = encoded = DynamicChunk.encodeBlocks(values, bitsPerEntry);
+        }
+        return encoded;
+    }
+
+    /**
+     * Recomputes all the heightmaps of a chunk from its sections, used after generation or loading.
+     *
+     * @param sections   the chunk sections
+     * @param heightmaps the heightmaps to refresh
+     */
+    static void refresh(@NotNull List<Section> sections, @NotNull Heightmap @NotNull [] heightmaps) {
+        final int sectionCount = sections.size();
+        final int maxHeight = sectionCount * Chunk.CHUNK_SECTION_SIZE;
+        for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+            for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+                final int index = index(x, z);
+                int remaining = heightmaps.length;
+                for (Heightmap heightmap : heightmaps) heightmap.heights[index] = -1;
+                for (int y = maxHeight - 1; y >= 0 && remaining > 0; y--) {
+                    final Palette palette = sections.get(y / Chunk.CHUNK_SECTION_SIZE).blockPalette();
+                    if (palette.count() == 0) {
+                        y -= y % Chunk.CHUNK_SECTION_SIZE; // Skip empty section
+                        continue;
+                    }
+                    final int stateId = palette.get(x, y % Chunk.CHUNK_SECTION_SIZE, z);
+                    if (stateId == 0) continue; // Air
+                    final Block block = Block.fromStateId((short) stateId);
+                    if (block == null) continue;
+                    for (Heightmap heightmap : heightmaps) {
+                        if (heightmap.heights[index] == -1 && heightmap.type.test(block)) {
+                            heightmap.heights[index] = (short) (y + 1);
+                            remaining--;
+                        }
+                    }
+                }
+                for (Heightmap heightmap : heightmaps) {
+                    if (heightmap.heights[index] == -1) heightmap.heights[index] = 0;
+                }
+            }
+        }
+        for (Heightmap heightmap : heightmaps) heightmap.encoded = null;
+    }
+
+    private static int index(int x, int z) {
+        return (z & 0xF) << 4 | (x & 0xF);
+    }
+
+    /**
+     * Standard heightmap types, only the ones flagged with {@link #sentToClient()} are part of the chunk packet.
+     */
+    public enum Type implements Predicate<Block> {
+        /**
+         * Highest non-air block.
+         */
+        WORLD_SURFACE(true, block -> !block.isAir()),
+        /**
+         * Highest solid block.
+         */
+        OCEAN_FLOOR(false, Block::isSolid),
+        /**
+         * Highest block blocking motion or containing a fluid.
+         */
+        MOTION_BLOCKING(true, block -> block.isSolid() || block.isLiquid()),
+        /**
+         * Same as {@link #MOTION_BLOCKING}, ignoring leaves.
+         */
+        MOTION_BLOCKING_NO_LEAVES(false, block -> (block.isSolid() || block.isLiquid()) && !block.name().endsWith("_leaves"));
+
+        private final boolean sentToClient;
+        private final Predicate<Block> predicate;
+
+        Type(boolean sentToClient, Predicate<Block> predicate) {
+            this.sentToClient = sentToClient;
+            this.predicate = predicate;
+        }
+
+        public boolean sentToClient() {
+            return sentToClient;
+        }
+
+        @Override
+        public boolean test(Block block) {
+            return predicate.test(block);
+        }
+    }
+}
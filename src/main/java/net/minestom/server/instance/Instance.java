@@ -29,6 +29,7 @@ import net.minestom.server.region.InstanceRegion;
 import net.minestom.server.snapshot.*;
 import net.minestom.server.tag.TagHandler;
 import net.minestom.server.tag.Taggable;
+import net.minestom.server.thread.Mailbox;
 import net.minestom.server.thread.ThreadDispatcher;
 import net.minestom.server.timer.Schedulable;
 import net.minestom.server.timer.Scheduler;
@@ -94,6 +95,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     // instance custom data
     private final TagHandler tagHandler = TagHandler.newHandler();
     private final Scheduler scheduler = Scheduler.newScheduler();
+    private final Mailbox<Instance> mailbox = Mailbox.of(this);
     private final EventNode<InstanceEvent> eventNode;
 
     // the explosion supplier
@@ -209,6 +211,19 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return loadOptionalChunk(point.chunkX(), point.chunkZ());
     }
 
+    /**
+     * Loads a chunk requested by the view of a player, same as {@link #loadOptionalChunk(int, int)}
+     * except that the load may be cancelled (completing with null) once no player is in range anymore.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return a {@link CompletableFuture} completed once the chunk has been processed, null if not loaded
+     */
+    @ApiStatus.Experimental
+    public @NotNull CompletableFuture<@Nullable Chunk> loadViewedChunk(int chunkX, int chunkZ) {
+        return loadOptionalChunk(chunkX, chunkZ);
+    }
+
     /**
      * Schedules the removal of a {@link Chunk}, this method does not promise when it will be done.
      * <p>
@@ -686,6 +701,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
      */
     @Override
     public void tick(long time) {
+        // Messages sent from other threads
+        this.mailbox.drain();
         // Scheduled tasks
         this.scheduler.processTick();
         // Time
@@ -724,6 +741,18 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return scheduler;
     }
 
+    /**
+     * Gets the mailbox of this instance, used to execute code in the instance thread without blocking.
+     * <p>
+     * Messages are executed at the start of the instance tick.
+     *
+     * @return the instance mailbox
+     */
+    @ApiStatus.Experimental
+    public @NotNull Mailbox<Instance> mailbox() {
+        return mailbox;
+    }
+
     @Override
     @ApiStatus.Experimental
     public @NotNull EventNode<InstanceEvent> eventNode() {
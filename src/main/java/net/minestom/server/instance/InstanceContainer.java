@@ -1,8 +1,10 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
@@ -16,13 +18,10 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.palette.Palette;
-import net.minestom.server.network.packet.server.play.BlockChangePacket;
-import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.async.AsyncUtils;
-import net.minestom.server.utils.block.BlockUtils;
 import net.minestom.server.utils.chunk.ChunkCache;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
@@ -31,15 +30,12 @@ import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
@@ -50,6 +46,8 @@ import static net.minestom.server.utils.chunk.ChunkUtils.*;
  */
 public class InstanceContainer extends Instance {
     private static final AnvilLoader DEFAULT_LOADER = new AnvilLoader("world");
+    private static final int BLOCK_LOCK_STRIPES = 64;
+    private static final ThreadLocal<BlockChangeContext> BLOCK_CHANGE_CONTEXT = ThreadLocal.withInitial(BlockChangeContext::new);
 
     // the shared instances assigned to this instance
     private final List<SharedInstance> sharedInstances = new CopyOnWriteArrayList<>();
@@ -59,10 +57,17 @@ public class InstanceContainer extends Instance {
     // (chunk index -> chunk) map, contains all the chunks in the instance
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
-    private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    private final Map<Long, ChunkLoad> loadingChunks = new ConcurrentHashMap<>();
+    // computes the light of the chunks, null if disabled
+    private final LightEngine lightEngine = LightEngine.ENABLED ? new LightEngine(this) : null;
+    // executor used to load and generate chunks, prioritized by viewer distance
+    private volatile ChunkExecutor chunkExecutor;
 
-    private final Lock changingBlockLock = new ReentrantLock();
-    private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
+    // block changes waiting to be sent to the chunk viewers
+    private final BlockChangeBuffer blockChanges = new BlockChangeBuffer();
+
+    // locks guarding block changes, a chunk always maps to the same stripe
+    private final ReentrantLock[] blockLocks = new ReentrantLock[BLOCK_LOCK_STRIPES];
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private IChunkLoader chunkLoader;
@@ -75,11 +80,12 @@ public class InstanceContainer extends Instance {
 
     // Fields for instance copy
     protected InstanceContainer srcInstance; // only present if this instance has been created using a copy
-    private long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
+    private volatile long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
 
     @ApiStatus.Experimental
     public InstanceContainer(@NotNull UUID uniqueId, @NotNull DimensionType dimensionType, @Nullable IChunkLoader loader) {
         super(uniqueId, dimensionType);
+        Arrays.setAll(blockLocks, i -> new ReentrantLock());
         setChunkSupplier(DynamicChunk::new);
         setChunkLoader(Objects.requireNonNullElse(loader, DEFAULT_LOADER));
         this.chunkLoader.loadInstance(this);
@@ -103,7 +109,12 @@ public class InstanceContainer extends Instance {
     /**
      * Sets a block at the specified position.
      * <p>
-     * Unsafe because the method is not synchronized and it does not verify if the chunk is loaded or not.
+     * Unsafe because it does not verify if the chunk is loaded or not.
+     * <p>
+     * Changes only lock the stripes of the chunk and of the chunks adjacent to the block (for neighbour updates),
+     * in ascending order. A nested change (from a placement rule or a handler) whose stripes are held by
+     * another thread is applied once the outermost change of the current thread completes, instead of waiting
+     * out of order.
      *
      * @param chunk the {@link Chunk} which should be loaded
      * @param x     the block X
@@ -111,58 +122,131 @@ public class InstanceContainer extends Instance {
      * @param z     the block Z
      * @param block the block to place
      */
-    private synchronized void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
-                                              @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy) {
+    private void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy) {
         if (chunk.isReadOnly()) return;
-        synchronized (chunk) {
-            // Refresh the last block change time
-            this.lastBlockChangeTime = System.currentTimeMillis();
-            final Vec blockPosition = new Vec(x, y, z);
-            if (isAlreadyChanged(blockPosition, block)) { // do NOT change the block again.
-                // Avoids StackOverflowExceptions when onDestroy tries to destroy the block itself
-                // This can happen with nether portals which break the entire frame when a portal block is broken
-                return;
-            }
-            this.currentlyChangingBlocks.put(blockPosition, block);
+        final BlockChangeContext context = BLOCK_CHANGE_CONTEXT.get();
+        final int[] stripes = blockStripes(x, z);
+        if (!lockStripes(stripes, context.depth == 0)) {
+            final Block deferredBlock = block;
+            context.deferred.add(() -> {
+                if (isLoaded(chunk)) UNSAFE_setBlock(chunk, x, y, z, deferredBlock, placement, destroy);
+            });
+            return;
+        }
+        context.depth++;
+        try {
+            synchronized (chunk) {
+                // Refresh the last block change time
+                this.lastBlockChangeTime = System.currentTimeMillis();
+                final Vec blockPosition = new Vec(x, y, z);
+                if (isAlreadyChanged(context, blockPosition, block)) { // do NOT change the block again.
+                    // Avoids StackOverflowExceptions when onDestroy tries to destroy the block itself
+                    // This can happen with nether portals which break the entire frame when a portal block is broken
+                    return;
+                }
+                context.changing.put(new ChangingBlock(this, blockPosition), block);
 
-            final Block previousBlock = chunk.getBlock(blockPosition);
-            final BlockHandler previousHandler = previousBlock.handler();
+                final Block previousBlock = chunk.getBlock(blockPosition);
+                final BlockHandler previousHandler = previousBlock.handler();
 
-            // Change id based on neighbors
-            final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
-            if (blockPlacementRule != null) {
-                block = blockPlacementRule.blockUpdate(this, blockPosition, block);
-            }
+                // Change id based on neighbors
+                final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
+                if (blockPlacementRule != null) {
+                    block = blockPlacementRule.blockUpdate(this, blockPosition, block);
+                }
+
+                // Set the block
+                chunk.setBlock(x, y, z, block);
 
-            // Set the block
-            chunk.setBlock(x, y, z, block);
+                // Refresh neighbors since a new block has been placed
+                executeNeighboursBlockPlacementRule(blockPosition);
 
-            // Refresh neighbors since a new block has been placed
-            executeNeighboursBlockPlacementRule(blockPosition);
+                // Refresh player chunk block, sent at the end of the tick
+                this.blockChanges.add(chunk, x, y, z, block);
 
-            // Refresh player chunk block
-            {
-                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
-                var registry = block.registry();
-                if (registry.isBlockEntity()) {
-                    final NBTCompound data = BlockUtils.extractClientNbt(block);
-                    chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
+                if (previousHandler != null) {
+                    // Previous destroy
+                    previousHandler.onDestroy(Objects.requireNonNullElseGet(destroy,
+                            () -> new BlockHandler.Destroy(previousBlock, this, blockPosition)));
+                }
+                final BlockHandler handler = block.handler();
+                if (handler != null) {
+                    // New placement
+                    final Block finalBlock = block;
+                    handler.onPlace(Objects.requireNonNullElseGet(placement,
+                            () -> new BlockHandler.Placement(finalBlock, this, blockPosition)));
+                }
+            }
+        } finally {
+            context.depth--;
+            for (int stripe : stripes) this.blockLocks[stripe].unlock();
+            // Even if this change failed, the deferred ones are not bound to it
+            if (context.depth == 0 && !context.draining) {
+                try {
+                    drainDeferred(context);
+                } finally {
+                    // The outermost change and its deferred ones completed
+                    context.changing.clear();
                 }
             }
+        }
+    }
 
-            if (previousHandler != null) {
-                // Previous destroy
-                previousHandler.onDestroy(Objects.requireNonNullElseGet(destroy,
-                        () -> new BlockHandler.Destroy(previousBlock, this, blockPosition)));
+    /**
+     * Applies the changes which could not acquire their locks, once the outermost change of the thread completed.
+     */
+    private static void drainDeferred(BlockChangeContext context) {
+        context.draining = true;
+        try {
+            Runnable deferred;
+            while ((deferred = context.deferred.poll()) != null) {
+                try {
+                    deferred.run();
+                } catch (Exception e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
             }
-            final BlockHandler handler = block.handler();
-            if (handler != null) {
-                // New placement
-                final Block finalBlock = block;
-                handler.onPlace(Objects.requireNonNullElseGet(placement,
-                        () -> new BlockHandler.Placement(finalBlock, this, blockPosition)));
+        } finally {
+            context.draining = false;
+        }
+    }
+
+    /**
+     * Gets the lock stripes of the chunks containing the block and its direct neighbours, in ascending order.
+     */
+    static int[] blockStripes(int x, int z) {
+        final int minChunkX = getChunkCoordinate(x - 1), maxChunkX = getChunkCoordinate(x + 1);
+        final int minChunkZ = getChunkCoordinate(z - 1), maxChunkZ = getChunkCoordinate(z + 1);
+        int[] stripes = new int[(maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1)];
+        int count = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final int stripe = (int) HashCommon.mix(getChunkIndex(chunkX, chunkZ)) & (BLOCK_LOCK_STRIPES - 1);
+                // Insertion sort, skipping duplicates
+                int i = count;
+                while (i > 0 && stripes[i - 1] > stripe) i--;
+                if (i > 0 && stripes[i - 1] == stripe) continue;
+                System.arraycopy(stripes, i, stripes, i + 1, count - i);
+                stripes[i] = stripe;
+                count++;
             }
         }
+        return count == stripes.length ? stripes : Arrays.copyOf(stripes, count);
+    }
+
+    private boolean lockStripes(int[] stripes, boolean blocking) {
+        for (int i = 0; i < stripes.length; i++) {
+            final ReentrantLock lock = this.blockLocks[stripes[i]];
+            if (blocking || lock.isHeldByCurrentThread()) {
+                lock.lock();
+            } else if (!lock.tryLock()) {
+                // Waiting while holding other stripes could deadlock
+                for (int j = 0; j < i; j++) this.blockLocks[stripes[j]].unlock();
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -210,12 +294,17 @@ public class InstanceContainer extends Instance {
 
     @Override
     public @NotNull CompletableFuture<Chunk> loadChunk(int chunkX, int chunkZ) {
-        return loadOrRetrieve(chunkX, chunkZ, () -> retrieveChunk(chunkX, chunkZ));
+        return loadOrRetrieve(chunkX, chunkZ, () -> retrieveChunk(chunkX, chunkZ, false));
     }
 
     @Override
     public @NotNull CompletableFuture<Chunk> loadOptionalChunk(int chunkX, int chunkZ) {
-        return loadOrRetrieve(chunkX, chunkZ, () -> hasEnabledAutoChunkLoad() ? retrieveChunk(chunkX, chunkZ) : AsyncUtils.empty());
+        return loadOrRetrieve(chunkX, chunkZ, () -> hasEnabledAutoChunkLoad() ? retrieveChunk(chunkX, chunkZ, false) : AsyncUtils.empty());
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Nullable Chunk> loadViewedChunk(int chunkX, int chunkZ) {
+        return loadOrRetrieve(chunkX, chunkZ, () -> hasEnabledAutoChunkLoad() ? retrieveChunk(chunkX, chunkZ, true) : AsyncUtils.empty());
     }
 
     @Override
@@ -257,13 +346,45 @@ public class InstanceContainer extends Instance {
         return chunkLoader.saveChunks(getChunks());
     }
 
-    protected @NotNull CompletableFuture<@NotNull Chunk> retrieveChunk(int chunkX, int chunkZ) {
-        CompletableFuture<Chunk> completableFuture = new CompletableFuture<>();
+    /**
+     * Loads or generates a chunk which is not loaded yet.
+     *
+     * @param chunkX      the chunk X
+     * @param chunkZ      the chunk Z
+     * @param cancellable true if the load can be dropped once no player needs the chunk,
+     *                    in which case the future is completed with null
+     * @return a future completed with the retrieved chunk
+     */
+    protected @NotNull CompletableFuture<Chunk> retrieveChunk(int chunkX, int chunkZ, boolean cancellable) {
         final long index = getChunkIndex(chunkX, chunkZ);
-        final CompletableFuture<Chunk> prev = loadingChunks.putIfAbsent(index, completableFuture);
-        if (prev != null) return prev;
         final IChunkLoader loader = chunkLoader;
-        final Runnable retriever = () -> loader.loadChunk(this, chunkX, chunkZ)
+        final ChunkExecutor executor = loader.supportsParallelLoading() ? getChunkExecutor() : null;
+        final ChunkLoad load = new ChunkLoad();
+        final CompletableFuture<Chunk> completableFuture = load.future;
+        if (executor != null) {
+            load.task = executor.task(() -> retrieve(loader, load, index, chunkX, chunkZ),
+                    () -> viewerPriority(chunkX, chunkZ), cancellable ? () -> {
+                        // No player needs the chunk anymore, optional loads can complete empty
+                        this.loadingChunks.remove(index, load);
+                        completableFuture.complete(null);
+                    } : null);
+        }
+        ChunkLoad prev;
+        while ((prev = loadingChunks.putIfAbsent(index, load)) != null) {
+            // Required loads must not be cancelled
+            if (cancellable || prev.task == null || prev.task.pin()) return prev.future;
+            this.loadingChunks.remove(index, prev);
+        }
+        if (executor != null) {
+            executor.submit(load.task);
+        } else {
+            retrieve(loader, load, index, chunkX, chunkZ);
+        }
+        return completableFuture;
+    }
+
+    private void retrieve(IChunkLoader loader, ChunkLoad load, long index, int chunkX, int chunkZ) {
+        loader.loadChunk(this, chunkX, chunkZ)
                 .thenCompose(chunk -> {
                     if (chunk != null) {
                         // Chunk has been loaded from storage
@@ -275,23 +396,48 @@ public class InstanceContainer extends Instance {
                 })
                 // cache the retrieved chunk
                 .thenAccept(chunk -> {
+                    // Generators write to the palettes directly
+                    if (chunk instanceof DynamicChunk dynamicChunk) dynamicChunk.refreshHeightmaps();
+                    // Light new chunks from the loading thread, borders are merged during the instance tick
+                    final boolean lit = lightEngine != null && lightEngine.lightChunk(chunk, false);
                     // TODO run in the instance thread?
                     cacheChunk(chunk);
+                    if (lit) lightEngine.merge(chunk);
                     EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
-                    final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
-                    assert future == completableFuture : "Invalid future: " + future;
-                    completableFuture.complete(chunk);
+                    final ChunkLoad removed = this.loadingChunks.remove(index);
+                    assert removed == load : "Invalid load: " + removed;
+                    load.future.complete(chunk);
                 })
                 .exceptionally(throwable -> {
                     MinecraftServer.getExceptionManager().handleException(throwable);
                     return null;
                 });
-        if (loader.supportsParallelLoading()) {
-            CompletableFuture.runAsync(retriever);
-        } else {
-            retriever.run();
+    }
+
+    /**
+     * Gets the priority of a chunk load, the squared chunk distance to the nearest player in view range.
+     *
+     * @return the load priority, {@link Long#MAX_VALUE} if no player is in range
+     */
+    private long viewerPriority(int chunkX, int chunkZ) {
+        final int range = MinecraftServer.getChunkViewDistance() + 1;
+        long priority = viewerPriority(getPlayers(), chunkX, chunkZ, range);
+        for (SharedInstance sharedInstance : sharedInstances) {
+            priority = Math.min(priority, viewerPriority(sharedInstance.getPlayers(), chunkX, chunkZ, range));
         }
-        return completableFuture;
+        return priority;
+    }
+
+    private static long viewerPriority(Collection<Player> players, int chunkX, int chunkZ, int range) {
+        long priority = Long.MAX_VALUE;
+        for (Player player : players) {
+            final Pos position = player.getPosition();
+            final int dx = position.chunkX() - chunkX;
+            final int dz = position.chunkZ() - chunkZ;
+            if (Math.abs(dx) > range || Math.abs(dz) > range) continue;
+            priority = Math.min(priority, (long) dx * dx + (long) dz * dz);
+        }
+        return priority;
     }
 
     Map<Long, List<GeneratorImpl.SectionModifierImpl>> generationForks = new ConcurrentHashMap<>();
@@ -302,8 +448,7 @@ public class InstanceContainer extends Instance {
         Generator generator = generator();
         if (generator != null && chunk.shouldGenerate()) {
             CompletableFuture<Chunk> resultFuture = new CompletableFuture<>();
-            // TODO: virtual thread once Loom is available
-            ForkJoinPool.commonPool().submit(() -> {
+            final Runnable generation = () -> {
                 var chunkUnit = GeneratorImpl.chunk(chunk);
                 try {
                     // Generate block/biome palette
@@ -329,7 +474,7 @@ public class InstanceContainer extends Instance {
                                     applyFork(forkChunk, sectionModifier);
                                     // Update players
                                     if (forkChunk instanceof DynamicChunk dynamicChunk) {
-                                        dynamicChunk.chunkCache.invalidate();
+                                        dynamicChunk.refreshHeightmaps();
                                         dynamicChunk.lightCache.invalidate();
                                     }
                                     forkChunk.sendChunk();
@@ -353,7 +498,13 @@ public class InstanceContainer extends Instance {
                     refreshLastBlockChangeTime();
                     resultFuture.complete(chunk);
                 }
-            });
+            };
+            if (ChunkExecutor.isChunkThread()) {
+                // Already prioritized as part of the chunk load
+                generation.run();
+            } else {
+                getChunkExecutor().submit(generation, () -> viewerPriority(chunkX, chunkZ));
+            }
             return resultFuture;
         } else {
             // No chunk generator, execute the callback with the empty chunk
@@ -379,6 +530,7 @@ public class InstanceContainer extends Instance {
             Palette currentBlocks = section.blockPalette();
             // -1 is necessary because forked units handle explicit changes by changing AIR 0 to 1
             sectionModifier.blockPalette().getAllPresent((x, y, z, value) -> currentBlocks.set(x, y, z, value - 1));
+            section.invalidate();
             applyGenerationData(chunk, sectionModifier);
         }
     }
@@ -478,17 +630,25 @@ public class InstanceContainer extends Instance {
      * {@link UUID} is randomized and {@link DimensionType} is passed over.
      *
      * @return an {@link InstanceContainer} with the exact same chunks as 'this'
+     * @throws IllegalStateException if called from a block change, whose stripes would be locked out of order
      * @see #getSrcInstance() to retrieve the "creation source" of the copied instance
      */
     public synchronized InstanceContainer copy() {
+        Check.stateCondition(BLOCK_CHANGE_CONTEXT.get().depth > 0, "An instance cannot be copied during a block change");
         InstanceContainer copiedInstance = new InstanceContainer(UUID.randomUUID(), getDimensionType());
         copiedInstance.srcInstance = this;
-        copiedInstance.lastBlockChangeTime = lastBlockChangeTime;
-        for (Chunk chunk : chunks.values()) {
-            final int chunkX = chunk.getChunkX();
-            final int chunkZ = chunk.getChunkZ();
-            final Chunk copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
-            copiedInstance.cacheChunk(copiedChunk);
+        // Wait for the block changes in progress
+        for (ReentrantLock lock : blockLocks) lock.lock();
+        try {
+            copiedInstance.lastBlockChangeTime = lastBlockChangeTime;
+            for (Chunk chunk : chunks.values()) {
+                final int chunkX = chunk.getChunkX();
+                final int chunkZ = chunk.getChunkZ();
+                final Chunk copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+                copiedInstance.cacheChunk(copiedChunk);
+            }
+        } finally {
+            for (ReentrantLock lock : blockLocks) lock.unlock();
         }
         return copiedInstance;
     }
@@ -565,23 +725,31 @@ public class InstanceContainer extends Instance {
     public void tick(long time) {
         // Time/world border
         super.tick(time);
-        // Clear block change map
-        Lock wrlock = this.changingBlockLock;
-        wrlock.lock();
-        this.currentlyChangingBlocks.clear();
-        wrlock.unlock();
+        // Light updates, before the chunks are ticked
+        if (lightEngine != null) lightEngine.tick();
     }
 
     /**
-     * Has this block already changed since last update?
+     * Sends the block changes of the current tick to the chunk viewers.
+     * <p>
+     * Called at the end of each tick, before the connections are flushed.
+     */
+    @ApiStatus.Internal
+    public void flushBlockChanges() {
+        this.blockChanges.flush();
+    }
+
+    /**
+     * Is this block already being changed by the thread?
      * Prevents StackOverflow with blocks trying to modify their position in onDestroy or onPlace.
      *
+     * @param context       the block changes of the thread
      * @param blockPosition the block position
      * @param block         the block
-     * @return true if the block changed since the last update
+     * @return true if the block changed during the outermost change in progress
      */
-    private boolean isAlreadyChanged(@NotNull Point blockPosition, @NotNull Block block) {
-        final Block changedBlock = currentlyChangingBlocks.get(blockPosition);
+    private boolean isAlreadyChanged(@NotNull BlockChangeContext context, @NotNull Point blockPosition, @NotNull Block block) {
+        final Block changedBlock = context.changing.get(new ChangingBlock(this, blockPosition));
         return Objects.equals(changedBlock, block);
     }
 
@@ -621,6 +789,37 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    /**
+     * Gets the engine computing the light of this instance chunks.
+     *
+     * @return the light engine, null if disabled with the {@code minestom.lighting} property
+     */
+    @ApiStatus.Experimental
+    public @Nullable LightEngine getLightEngine() {
+        return lightEngine;
+    }
+
+    /**
+     * Gets the executor used to load and generate the chunks of this instance.
+     *
+     * @return the chunk executor, {@link ChunkExecutor#shared()} by default
+     */
+    @ApiStatus.Experimental
+    public @NotNull ChunkExecutor getChunkExecutor() {
+        final ChunkExecutor executor = this.chunkExecutor;
+        return executor != null ? executor : ChunkExecutor.shared();
+    }
+
+    /**
+     * Changes the executor used to load and generate the chunks of this instance.
+     *
+     * @param chunkExecutor the new chunk executor, null to use {@link ChunkExecutor#shared()}
+     */
+    @ApiStatus.Experimental
+    public void setChunkExecutor(@Nullable ChunkExecutor chunkExecutor) {
+        this.chunkExecutor = chunkExecutor;
+    }
+
     private CompletableFuture<Chunk> loadOrRetrieve(int chunkX, int chunkZ, Supplier<CompletableFuture<Chunk>> supplier) {
         final Chunk chunk = getChunk(chunkX, chunkZ);
         if (chunk != null) {
@@ -635,4 +834,22 @@ public class InstanceContainer extends Instance {
         var dispatcher = MinecraftServer.process().dispatcher();
         dispatcher.createPartition(chunk);
     }
+
+    private static final class ChunkLoad {
+        final CompletableFuture<Chunk> future = new CompletableFuture<>();
+        // Null if the loader does not support parallel loading
+        ChunkExecutor.Task task;
+    }
+
+    private static final class BlockChangeContext {
+        // Number of block changes in progress on the thread
+        private int depth;
+        private boolean draining;
+        private final Queue<Runnable> deferred = new ArrayDeque<>();
+        // Blocks changed since the outermost change started, cleared once it completes
+        private final Map<ChangingBlock, Block> changing = new HashMap<>();
+    }
+
+    private record ChangingBlock(InstanceContainer instance, Point position) {
+    }
 }
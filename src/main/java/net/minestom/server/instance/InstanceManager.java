@@ -123,6 +123,7 @@ public final class InstanceManager {
             }
             // Unregister
             instance.setRegistered(false);
+            instance.mailbox().close();
             this.instances.remove(instance);
         }
     }
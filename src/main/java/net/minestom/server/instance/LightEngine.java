@@ -0,0 +1,461 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.PropertyUtils;
+import net.minestom.server.world.DimensionType;
+import org.jctools.queues.MpscUnboundedXaddArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Computes the block and sky light of the {@link DynamicChunk chunks} of an {@link InstanceContainer}.
+ * <p>
+ * New chunks are lit in isolation by the thread loading them, light crossing chunk borders and block changes
+ * are then propagated incrementally during the instance tick, only sending the modified sections to the viewers.
+ * <p>
+ * Light goes through non-occluding blocks and loses one level per block, except sky light at full level
+ * which goes straight down without loss.
+ */
+@ApiStatus.Experimental
+public final class LightEngine {
+    public static final boolean ENABLED = PropertyUtils.getBoolean("minestom.lighting", true);
+
+    private static final int MAX_LEVEL = 15;
+    private static final int SECTION_LIGHT_SIZE = 2048;
+    private static final int[] DX = {1, -1, 0, 0, 0, 0};
+    private static final int[] DY = {0, 0, 0, 0, 1, -1};
+    private static final int[] DZ = {0, 0, 1, -1, 0, 0};
+    private static final int DOWN = 5;
+
+    private final InstanceContainer instance;
+    private final boolean skylight;
+    private final int minY, maxY;
+    private final MpscUnboundedXaddArrayQueue<Object> updates = new MpscUnboundedXaddArrayQueue<>(64);
+
+    // Guards the light of the lit chunks, the fields below are only accessed while holding it
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongArrayFIFOQueue propagation = new LongArrayFIFOQueue();
+    private final LongArrayFIFOQueue removal = new LongArrayFIFOQueue();
+    private final IntArrayFIFOQueue removalLevels = new IntArrayFIFOQueue();
+    private final Map<DynamicChunk, BitSet> dirtySections = new IdentityHashMap<>();
+    private DynamicChunk cachedChunk;
+
+    LightEngine(@NotNull InstanceContainer instance) {
+        this.instance = instance;
+        final DimensionType dimensionType = instance.getDimensionType();
+        this.skylight = dimensionType.isSkylightEnabled();
+        this.minY = dimensionType.getMinY();
+        this.maxY = dimensionType.getMinY() + dimensionType.getHeight();
+    }
+
+    /**
+     * Recomputes the light of a loaded chunk, for example after modifying its sections directly.
+     * <p>
+     * The computation happens in the calling thread, viewers are updated during the next instance tick.
+     *
+     * @param chunk the chunk to relight
+     */
+    public void relight(@NotNull Chunk chunk) {
+        if (lightChunk(chunk, true)) this.updates.offer(new Seam((DynamicChunk) chunk, true));
+    }
+
+    /**
+     * Lights a chunk, only looking at its own blocks. Can be called from any thread.
+     *
+     * @param chunk the chunk to light
+     * @param force true to recompute the light even if the chunk already has some
+     * @return true if the light has been computed, and must be merged with the neighbors using {@link #merge(Chunk)}
+     */
+    boolean lightChunk(@NotNull Chunk chunk, boolean force) {
+        if (!(chunk instanceof DynamicChunk dynamicChunk)) return false;
+        final List<Section> sections = dynamicChunk.getSections();
+        if (!force && hasLight(sections)) {
+            // Light loaded from storage
+            dynamicChunk.lit = true;
+            return false;
+        }
+        final int sectionCount = sections.size();
+        final int height = sectionCount * Chunk.CHUNK_SECTION_SIZE;
+        final BitSet occluded = new BitSet(height << 8);
+        final IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+        // Block light
+        final byte[][] blockLight = new byte[sectionCount][];
+        for (int i = 0; i < sectionCount; i++) {
+            final Palette palette = sections.get(i).blockPalette();
+            if (palette.count() == 0) continue;
+            final int sectionY = i * Chunk.CHUNK_SECTION_SIZE;
+            palette.getAllPresent((x, y, z, value) -> {
+                final Block block = Block.fromStateId((short) value);
+                if (block == null) return;
+                final int index = columnIndex(x, sectionY + y, z);
+                if (block.registry().occludes()) occluded.set(index);
+                final int emission = block.registry().lightEmission();
+                if (emission > 0) {
+                    set(blockLight, index, emission);
+                    queue.enqueue(index);
+                }
+            });
+        }
+        propagateColumn(blockLight, occluded, queue, height, false);
+        // Sky light
+        byte[][] skyLight = null;
+        if (skylight) {
+            skyLight = new byte[sectionCount][SECTION_LIGHT_SIZE];
+            final int[] heights = new int[256];
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    int y = height - 1;
+                    for (; y >= 0 && !occluded.get(columnIndex(x, y, z)); y--) {
+                        set(skyLight, columnIndex(x, y, z), MAX_LEVEL);
+                    }
+                    heights[z << 4 | x] = y + 1;
+                }
+            }
+            // Only spread from the cells next to a darker column
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    final int columnHeight = heights[z << 4 | x];
+                    int spreadHeight = columnHeight;
+                    if (x > 0) spreadHeight = Math.max(spreadHeight, heights[z << 4 | (x - 1)]);
+                    if (x < 15) spreadHeight = Math.max(spreadHeight, heights[z << 4 | (x + 1)]);
+                    if (z > 0) spreadHeight = Math.max(spreadHeight, heights[(z - 1) << 4 | x]);
+                    if (z < 15) spreadHeight = Math.max(spreadHeight, heights[(z + 1) << 4 | x]);
+                    for (int y = columnHeight; y < spreadHeight; y++) queue.enqueue(columnIndex(x, y, z));
+                }
+            }
+            propagateColumn(skyLight, occluded, queue, height, true);
+        }
+        // Install
+        this.lock.lock();
+        try {
+            for (int i = 0; i < sectionCount; i++) {
+                final Section section = sections.get(i);
+                section.setBlockLight(blockLight[i] != null ? blockLight[i] : new byte[0]);
+                if (skyLight != null) section.setSkyLight(skyLight[i]);
+            }
+            dynamicChunk.lit = true;
+            dynamicChunk.invalidateLight();
+        } finally {
+            this.lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Schedules the propagation of light between a newly lit chunk and its neighbors.
+     *
+     * @param chunk the chunk lit by {@link #lightChunk(Chunk, boolean)}, must be loaded
+     */
+    void merge(@NotNull Chunk chunk) {
+        this.updates.offer(new Seam((DynamicChunk) chunk, false));
+    }
+
+    /**
+     * Schedules a light update after a block change.
+     */
+    void blockChanged(int x, int y, int z, int previousState, @NotNull Block block) {
+        final Block previous = Block.fromStateId((short) previousState);
+        if (previous != null && previous.registry().lightEmission() == block.registry().lightEmission() &&
+                previous.registry().occludes() == block.registry().occludes()) {
+            return; // Same light properties
+        }
+        this.updates.offer(new BlockUpdate(x, y, z));
+    }
+
+    /**
+     * Processes the scheduled updates and sends the modified sections to the chunk viewers.
+     */
+    void tick() {
+        if (updates.isEmpty()) return;
+        this.lock.lock();
+        try {
+            this.updates.drain(update -> {
+                try {
+                    if (update instanceof BlockUpdate blockUpdate) {
+                        updateBlock(blockUpdate.x(), blockUpdate.y(), blockUpdate.z());
+                    } else if (update instanceof Seam seam) {
+                        updateSeam(seam.chunk(), seam.resend());
+                    }
+                } catch (Throwable e) {
+                    this.propagation.clear();
+                    this.removal.clear();
+                    this.removalLevels.clear();
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            });
+            this.cachedChunk = null;
+            for (Map.Entry<DynamicChunk, BitSet> entry : dirtySections.entrySet()) {
+                final DynamicChunk chunk = entry.getKey();
+                if (chunk.isLoaded()) chunk.sendLight(entry.getValue());
+            }
+            this.dirtySections.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void updateBlock(int x, int y, int z) {
+        final DynamicChunk chunk = chunkAt(x, z);
+        if (chunk == null || y < minY || y >= maxY) return;
+        final Block block = block(chunk, x, y, z);
+        updateBlock(chunk, x, y, z, block, false);
+        if (skylight) updateBlock(chunk, x, y, z, block, true);
+    }
+
+    private void updateBlock(DynamicChunk chunk, int x, int y, int z, Block block, boolean sky) {
+        final long position = pack(x, y, z);
+        final int level = light(chunk, x, y, z, sky);
+        if (level > 0) {
+            // Remove the light which may have come from this position
+            setLight(chunk, x, y, z, sky, 0);
+            this.removal.enqueue(position);
+            this.removalLevels.enqueue(level);
+            remove(sky);
+        }
+        if (!sky) {
+            final int emission = block.registry().lightEmission();
+            if (emission > 0) {
+                setLight(chunk, x, y, z, false, emission);
+                this.propagation.enqueue(position);
+            }
+        }
+        if (!block.registry().occludes()) {
+            if (sky && y == maxY - 1) {
+                setLight(chunk, x, y, z, true, MAX_LEVEL);
+                this.propagation.enqueue(position);
+            }
+            // Let the neighbors light the position again
+            for (int d = 0; d < 6; d++) {
+                final int nx = x + DX[d], ny = y + DY[d], nz = z + DZ[d];
+                if (ny < minY || ny >= maxY) continue;
+                final DynamicChunk neighborChunk = chunkAt(nx, nz);
+                if (neighborChunk != null && light(neighborChunk, nx, ny, nz, sky) > 0) {
+                    this.propagation.enqueue(pack(nx, ny, nz));
+                }
+            }
+        }
+        propagate(sky);
+    }
+
+    private void updateSeam(DynamicChunk chunk, boolean resend) {
+        if (!chunk.isLoaded() || !chunk.lit) return;
+        if (resend) {
+            final BitSet sections = this.dirtySections.computeIfAbsent(chunk, c -> new BitSet());
+            sections.set(0, chunk.getSections().size());
+        }
+        // The propagation queue holds a single kind of light at a time
+        mergeSeam(chunk, false);
+        if (skylight) mergeSeam(chunk, true);
+    }
+
+    private void mergeSeam(DynamicChunk chunk, boolean sky) {
+        final int baseX = chunk.getChunkX() << 4;
+        final int baseZ = chunk.getChunkZ() << 4;
+        for (int side = 0; side < 4; side++) {
+            final int neighborX = baseX + (side == 0 ? 16 : side == 1 ? -1 : 0);
+            final int neighborZ = baseZ + (side == 2 ? 16 : side == 3 ? -1 : 0);
+            final DynamicChunk neighbor = chunkAt(neighborX, neighborZ);
+            if (neighbor == null) continue;
+            for (int i = 0; i < 16; i++) {
+                final int ax = side == 0 ? baseX + 15 : side == 1 ? baseX : baseX + i;
+                final int az = side == 2 ? baseZ + 15 : side == 3 ? baseZ : baseZ + i;
+                final int bx = side < 2 ? neighborX : ax;
+                final int bz = side < 2 ? az : neighborZ;
+                for (int y = minY; y < maxY; y++) mergeCells(chunk, ax, az, neighbor, bx, bz, y, sky);
+            }
+        }
+        propagate(sky);
+    }
+
+    private void mergeCells(DynamicChunk a, int ax, int az, DynamicChunk b, int bx, int bz, int y, boolean sky) {
+        final int la = light(a, ax, y, az, sky);
+        final int lb = light(b, bx, y, bz, sky);
+        if (la - 1 > lb && !block(b, bx, y, bz).registry().occludes()) {
+            setLight(b, bx, y, bz, sky, la - 1);
+            this.propagation.enqueue(pack(bx, y, bz));
+        } else if (lb - 1 > la && !block(a, ax, y, az).registry().occludes()) {
+            setLight(a, ax, y, az, sky, lb - 1);
+            this.propagation.enqueue(pack(ax, y, az));
+        }
+    }
+
+    private void propagate(boolean sky) {
+        final LongArrayFIFOQueue queue = this.propagation;
+        while (!queue.isEmpty()) {
+            final long position = queue.dequeueLong();
+            final int x = unpackX(position), y = unpackY(position), z = unpackZ(position);
+            final DynamicChunk chunk = chunkAt(x, z);
+            if (chunk == null) continue;
+            final int level = light(chunk, x, y, z, sky);
+            if (level <= 1) continue;
+            for (int d = 0; d < 6; d++) {
+                final int nx = x + DX[d], ny = y + DY[d], nz = z + DZ[d];
+                if (ny < minY || ny >= maxY) continue;
+                final DynamicChunk neighborChunk = chunkAt(nx, nz);
+                if (neighborChunk == null || block(neighborChunk, nx, ny, nz).registry().occludes()) continue;
+                final int target = sky && d == DOWN && level == MAX_LEVEL ? MAX_LEVEL : level - 1;
+                if (light(neighborChunk, nx, ny, nz, sky) < target) {
+                    setLight(neighborChunk, nx, ny, nz, sky, target);
+                    queue.enqueue(pack(nx, ny, nz));
+                }
+            }
+        }
+    }
+
+    private void remove(boolean sky) {
+        final LongArrayFIFOQueue queue = this.removal;
+        while (!queue.isEmpty()) {
+            final long position = queue.dequeueLong();
+            final int level = removalLevels.dequeueInt();
+            final int x = unpackX(position), y = unpackY(position), z = unpackZ(position);
+            for (int d = 0; d < 6; d++) {
+                final int nx = x + DX[d], ny = y + DY[d], nz = z + DZ[d];
+                if (ny < minY || ny >= maxY) continue;
+                final DynamicChunk neighborChunk = chunkAt(nx, nz);
+                if (neighborChunk == null) continue;
+                final int neighborLevel = light(neighborChunk, nx, ny, nz, sky);
+                if (neighborLevel == 0) continue;
+                final long neighbor = pack(nx, ny, nz);
+                if (neighborLevel < level || (sky && d == DOWN && level == MAX_LEVEL && neighborLevel == MAX_LEVEL)) {
+                    // Light coming from the removed position
+                    setLight(neighborChunk, nx, ny, nz, sky, 0);
+                    queue.enqueue(neighbor);
+                    this.removalLevels.enqueue(neighborLevel);
+                    if (!sky) {
+                        final int emission = block(neighborChunk, nx, ny, nz).registry().lightEmission();
+                        if (emission > 0) {
+                            setLight(neighborChunk, nx, ny, nz, false, emission);
+                            this.propagation.enqueue(neighbor);
+                        }
+                    }
+                } else {
+                    // Independent light, spread it back into the removed area
+                    this.propagation.enqueue(neighbor);
+                }
+            }
+        }
+    }
+
+    private DynamicChunk chunkAt(int x, int z) {
+        final int chunkX = x >> 4, chunkZ = z >> 4;
+        final DynamicChunk cached = this.cachedChunk;
+        if (cached != null && cached.getChunkX() == chunkX && cached.getChunkZ() == chunkZ) return cached;
+        if (!(instance.getChunk(chunkX, chunkZ) instanceof DynamicChunk chunk) || !chunk.lit) return null;
+        this.cachedChunk = chunk;
+        return chunk;
+    }
+
+    private static Block block(DynamicChunk chunk, int x, int y, int z) {
+        final int stateId = chunk.getSectionAt(y).blockPalette().get(x & 15, y & 15, z & 15);
+        final Block block = Block.fromStateId((short) stateId);
+        return block != null ? block : Block.AIR;
+    }
+
+    private static int light(DynamicChunk chunk, int x, int y, int z, boolean sky) {
+        final Section section = chunk.getSectionAt(y);
+        return get(sky ? section.getSkyLight() : section.getBlockLight(), sectionIndex(x, y, z));
+    }
+
+    private void setLight(DynamicChunk chunk, int x, int y, int z, boolean sky, int level) {
+        final Section section = chunk.getSectionAt(y);
+        byte[] light = sky ? section.getSkyLight() : section.getBlockLight();
+        if (light.length == 0) {
+            if (level == 0) return;
+            light = new byte[SECTION_LIGHT_SIZE];
+            if (sky) section.setSkyLight(light);
+            else section.setBlockLight(light);
+        }
+        set(light, sectionIndex(x, y, z), level);
+        this.dirtySections.computeIfAbsent(chunk, c -> new BitSet())
+                .set((y >> 4) - chunk.getMinSection());
+    }
+
+    private static void propagateColumn(byte[][] light, BitSet occluded, IntArrayFIFOQueue queue, int height, boolean sky) {
+        while (!queue.isEmpty()) {
+            final int index = queue.dequeueInt();
+            final int level = get(light, index);
+            if (level <= 1) continue;
+            final int x = index & 15, z = (index >> 4) & 15, y = index >>> 8;
+            for (int d = 0; d < 6; d++) {
+                final int nx = x + DX[d], ny = y + DY[d], nz = z + DZ[d];
+                if (((nx | nz) & ~15) != 0 || ny < 0 || ny >= height) continue;
+                final int neighbor = columnIndex(nx, ny, nz);
+                if (occluded.get(neighbor)) continue;
+                final int target = sky && d == DOWN && level == MAX_LEVEL ? MAX_LEVEL : level - 1;
+                if (get(light, neighbor) < target) {
+                    set(light, neighbor, target);
+                    queue.enqueue(neighbor);
+                }
+            }
+        }
+    }
+
+    private static boolean hasLight(List<Section> sections) {
+        for (Section section : sections) {
+            if (section.getSkyLight().length != 0 || section.getBlockLight().length != 0) return true;
+        }
+        return false;
+    }
+
+    private static int columnIndex(int x, int y, int z) {
+        return y << 8 | z << 4 | x;
+    }
+
+    private static int sectionIndex(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private static int get(byte[][] light, int columnIndex) {
+        final byte[] section = light[columnIndex >>> 12];
+        return section != null ? get(section, columnIndex & 0xFFF) : 0;
+    }
+
+    private static void set(byte[][] light, int columnIndex, int level) {
+        byte[] section = light[columnIndex >>> 12];
+        if (section == null) light[columnIndex >>> 12] = section = new byte[SECTION_LIGHT_SIZE];
+        set(section, columnIndex & 0xFFF, level);
+    }
+
+    static int get(byte[] light, int index) {
+        if (light.length == 0) return 0;
+        return (light[index >>> 1] >> ((index & 1) << 2)) & 0xF;
+    }
+
+    static void set(byte[] light, int index, int level) {
+        final int i = index >>> 1;
+        final int shift = (index & 1) << 2;
+        light[i] = (byte) ((light[i] & ~(0xF << shift)) | (level << shift));
+    }
+
+    private static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static int unpackX(long position) {
+        return (int) (position >> 38);
+    }
+
+    private static int unpackY(long position) {
+        return (int) (position << 52 >> 52);
+    }
+
+    private static int unpackZ(long position) {
+        return (int) (position << 26 >> 38);
+    }
+
+    private record BlockUpdate(int x, int y, int z) {
+    }
+
+    private record Seam(DynamicChunk chunk, boolean resend) {
+    }
+}
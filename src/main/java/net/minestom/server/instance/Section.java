@@ -4,6 +4,7 @@ import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.NetworkBuffer;
 import org.jetbrains.annotations.NotNull;
 
+import static net.minestom.server.network.NetworkBuffer.RAW_BYTES;
 import static net.minestom.server.network.NetworkBuffer.SHORT;
 
 public final class Section implements NetworkBuffer.Writer {
@@ -12,6 +13,11 @@ public final class Section implements NetworkBuffer.Writer {
     private byte[] skyLight;
     private byte[] blockLight;
 
+    // Serialized palettes, only valid for the version they were encoded at
+    private volatile int version;
+    private byte[] encoded;
+    private int encodedVersion;
+
     private Section(Palette blockPalette, Palette biomePalette,
                     byte[] skyLight, byte[] blockLight) {
         this.blockPalette = blockPalette;
@@ -54,6 +60,37 @@ public final class Section implements NetworkBuffer.Writer {
         this.biomePalette.fill(0);
         this.skyLight = new byte[0];
         this.blockLight = new byte[0];
+        invalidate();
+    }
+
+    /**
+     * Marks the serialized palettes as outdated, must be called after modifying {@link #blockPalette()}
+     * or {@link #biomePalette()} directly.
+     */
+    public void invalidate() {
+        this.version++;
+    }
+
+    /**
+     * Gets the serialized palettes, only re-encoded if the section changed since the last call.
+     * <p>
+     * Callers must not modify the returned array, and must not call this method concurrently.
+     *
+     * @return the section data as sent in the chunk packet
+     */
+    byte @NotNull [] encoded() {
+        final int version = this.version;
+        byte[] encoded = this.encoded;
+        if (encoded == null || encodedVersion != version) {
+            encoded = NetworkBuffer.makeArray(buffer -> {
+                buffer.write(SHORT, (short) blockPalette.count());
+                buffer.write(blockPalette);
+                buffer.write(biomePalette);
+            });
+            this.encoded = encoded;
+            this.encodedVersion = version;
+        }
+        return encoded;
     }
 
     @Override
@@ -64,8 +101,6 @@ public final class Section implements NetworkBuffer.Writer {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(SHORT, (short) blockPalette.count());
-        writer.write(blockPalette);
-        writer.write(biomePalette);
+        writer.write(RAW_BYTES, encoded());
     }
 }
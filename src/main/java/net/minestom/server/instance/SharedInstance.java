@@ -50,6 +50,11 @@ public class SharedInstance extends Instance {
         return instanceContainer.loadOptionalChunk(chunkX, chunkZ);
     }
 
+    @Override
+    public @NotNull CompletableFuture<Chunk> loadViewedChunk(int chunkX, int chunkZ) {
+        return instanceContainer.loadViewedChunk(chunkX, chunkZ);
+    }
+
     @Override
     public void unloadChunk(@NotNull Chunk chunk) {
         instanceContainer.unloadChunk(chunk);
@@ -0,0 +1,117 @@
+package net.minestom.server.listener;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Holds the latest movement received from a player, decoded without allocating a packet.
+ * <p>
+ * Successive movements are merged, as only the newest state matters.
+ * The slot content is always more recent than the packets in the player queue:
+ * it is converted back into a packet when another packet is queued
+ * (see {@link Player#addPacketToQueue(ClientPacket)}), and only applied once the queue is empty.
+ */
+@ApiStatus.Internal
+public final class MovementSlot {
+    public static final int POSITION = 0x01;
+    public static final int ROTATION = 0x02;
+
+    private volatile boolean pending;
+    private int flags;
+    private double x, y, z;
+    private float yaw, pitch;
+    private boolean onGround;
+
+    /**
+     * Reads a movement packet payload into the slot.
+     * <p>
+     * Called from the connection thread.
+     *
+     * @param flags the packet content, combination of {@link #POSITION} and {@link #ROTATION}
+     * @param body  the packet payload, positioned after the packet id
+     */
+    public synchronized void read(int flags, @NotNull ByteBuffer body) {
+        if ((flags & POSITION) != 0) {
+            this.x = body.getDouble();
+            this.y = body.getDouble();
+            this.z = body.getDouble();
+        }
+        if ((flags & ROTATION) != 0) {
+            this.yaw = body.getFloat();
+            this.pitch = body.getFloat();
+        }
+        this.onGround = body.get() == 1;
+        this.flags = pending ? this.flags | flags : flags;
+        this.pending = true;
+    }
+
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * Converts the pending movement into a packet, and clears the slot.
+     *
+     * @return the pending movement packet, null if none
+     */
+    public synchronized @Nullable ClientPacket take() {
+        if (!pending) return null;
+        this.pending = false;
+        return switch (flags) {
+            case POSITION | ROTATION ->
+                    new ClientPlayerPositionAndRotationPacket(new Pos(x, y, z, yaw, pitch), onGround);
+            case POSITION -> new ClientPlayerPositionPacket(new Vec(x, y, z), onGround);
+            case ROTATION -> new ClientPlayerRotationPacket(yaw, pitch, onGround);
+            default -> new ClientPlayerPacket(onGround);
+        };
+    }
+
+    /**
+     * Applies the pending movement to the player, if any.
+     * <p>
+     * Called from the player tick thread.
+     *
+     * @param player the player owning this slot
+     */
+    public void apply(@NotNull Player player) {
+        if (!pending) return;
+        final int flags;
+        final double x, y, z;
+        final float yaw, pitch;
+        final boolean onGround;
+        synchronized (this) {
+            if (!pending) return;
+            this.pending = false;
+            flags = this.flags;
+            x = this.x;
+            y = this.y;
+            z = this.z;
+            yaw = this.yaw;
+            pitch = this.pitch;
+            onGround = this.onGround;
+        }
+        final Pos position = player.getPosition();
+        switch (flags) {
+            case POSITION | ROTATION ->
+                    PlayerPositionListener.processMovement(player, new Pos(x, y, z, yaw, pitch), onGround);
+            case POSITION -> PlayerPositionListener.processMovement(player, position.withCoord(x, y, z), onGround);
+            case ROTATION -> PlayerPositionListener.processMovement(player, position.withView(yaw, pitch), onGround);
+            default -> player.refreshOnGround(onGround);
+        }
+    }
+
+    public void clear() {
+        this.pending = false;
+    }
+}
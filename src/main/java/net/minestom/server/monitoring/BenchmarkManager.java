@@ -101,6 +101,16 @@ public final class BenchmarkManager {
         return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
     }
 
+    /**
+     * Gets the network counters of all the connections, available even when CPU monitoring is disabled.
+     *
+     * @return the server-wide network statistics
+     * @see net.minestom.server.network.player.PlayerSocketConnection#statistics()
+     */
+    public @NotNull NetworkStatistics.Snapshot getNetworkStatistics() {
+        return NetworkStatistics.total();
+    }
+
     public @NotNull Map<String, ThreadResult> getResultMap() {
         return Collections.unmodifiableMap(resultMap);
     }
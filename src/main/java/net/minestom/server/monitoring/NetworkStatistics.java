@@ -0,0 +1,318 @@
+package net.minestom.server.monitoring;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.minestom.server.network.PacketCompression;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Network counters of a single connection, always enabled.
+ * <p>
+ * Server-wide counters can be retrieved using {@link #total()},
+ * they include the connections that have since been closed.
+ *
+ * @see net.minestom.server.network.player.PlayerSocketConnection#statistics()
+ */
+public final class NetworkStatistics {
+    /**
+     * Packets with an id greater or equal to this value are only counted in the totals.
+     */
+    public static final int MAX_PACKET_ID = 0x80;
+
+    private static final Set<NetworkStatistics> OPEN = ConcurrentHashMap.newKeySet();
+    private static final NetworkStatistics CLOSED = new NetworkStatistics();
+
+    // Counters only have a single writer (the connection worker thread), updates are plain increments
+    // published with opaque writes, so that monitoring threads eventually see them without slowing down the writer
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int SOCKET_BYTES_IN = 0, SOCKET_BYTES_OUT = 1, FLUSH_COUNT = 2, FLUSH_NANOS = 3,
+            MAX_FLUSH_NANOS = 4, ENCRYPTION_NANOS = 5, WAITING_BUFFERS = 6,
+            COMPRESSED_FRAMES_OUT = 7, COMPRESSED_FRAME_BYTES_OUT = 8, COUNTER_COUNT = 9;
+
+    private final long[] packetsIn = new long[MAX_PACKET_ID];
+    private final long[] bytesIn = new long[MAX_PACKET_ID];
+    private final long[] packetsOut = new long[MAX_PACKET_ID];
+    private final long[] bytesOut = new long[MAX_PACKET_ID];
+    private final long[] counters = new long[COUNTER_COUNT];
+
+    private NetworkStatistics() {
+    }
+
+    @ApiStatus.Internal
+    public static @NotNull NetworkStatistics open() {
+        NetworkStatistics statistics = new NetworkStatistics();
+        OPEN.add(statistics);
+        return statistics;
+    }
+
+    /**
+     * Gets the counters of all the connections since the server start.
+     *
+     * @return a snapshot of the server-wide counters
+     */
+    public static @NotNull Snapshot total() {
+        Snapshot snapshot;
+        synchronized (CLOSED) {
+            snapshot = CLOSED.snapshot();
+        }
+        for (NetworkStatistics statistics : OPEN) {
+            snapshot = snapshot.merge(statistics.snapshot());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Stops tracking this connection, its counters are moved to the closed connections total.
+     */
+    @ApiStatus.Internal
+    public void close() {
+        if (!OPEN.remove(this)) return;
+        set(counters, WAITING_BUFFERS, 0);
+        // Closed connections are the only counters with multiple writers
+        synchronized (CLOSED) {
+            CLOSED.add(this);
+        }
+    }
+
+    @ApiStatus.Internal
+    public void packetIn(int packetId, int length) {
+        if (packetId >= 0 && packetId < MAX_PACKET_ID) {
+            add(packetsIn, packetId, 1);
+            add(bytesIn, packetId, length);
+        }
+    }
+
+    @ApiStatus.Internal
+    public void packetOut(int packetId, int length) {
+        if (packetId >= 0 && packetId < MAX_PACKET_ID) {
+            add(packetsOut, packetId, 1);
+            add(bytesOut, packetId, length);
+        }
+    }
+
+    /**
+     * Counts the packets of already framed data, as written for grouped viewable packets.
+     * <p>
+     * The id of compressed packets is not read, they are only counted as compressed frames.
+     *
+     * @param buffer     the framed packets
+     * @param index      the index of the first frame
+     * @param length     the length of the frames
+     * @param compressed true if the frames use the compressed format
+     */
+    @ApiStatus.Internal
+    public void framesOut(@NotNull ByteBuffer buffer, int index, int length, boolean compressed) {
+        final int end = index + length;
+        while (index < end) {
+            final long frameLength = readVarInt(buffer, index);
+            final int frameEnd = index + (int) (frameLength >>> 32) + (int) frameLength;
+            int idIndex = index + (int) (frameLength >>> 32);
+            if (compressed) {
+                final long dataLength = readVarInt(buffer, idIndex);
+                if ((int) dataLength != 0) {
+                    add(counters, COMPRESSED_FRAMES_OUT, 1);
+                    add(counters, COMPRESSED_FRAME_BYTES_OUT, frameEnd - index);
+                    index = frameEnd;
+                    continue;
+                }
+                idIndex += (int) (dataLength >>> 32);
+            }
+            packetOut((int) readVarInt(buffer, idIndex), frameEnd - index);
+            index = frameEnd;
+        }
+    }
+
+    @ApiStatus.Internal
+    public void socketIn(long length) {
+        add(counters, SOCKET_BYTES_IN, length);
+    }
+
+    @ApiStatus.Internal
+    public void socketOut(long length) {
+        add(counters, SOCKET_BYTES_OUT, length);
+    }
+
+    @ApiStatus.Internal
+    public void flush(long nanos, int waitingBuffers) {
+        add(counters, FLUSH_COUNT, 1);
+        add(counters, FLUSH_NANOS, nanos);
+        if (nanos > counters[MAX_FLUSH_NANOS]) set(counters, MAX_FLUSH_NANOS, nanos);
+        set(counters, WAITING_BUFFERS, waitingBuffers);
+    }
+
+    @ApiStatus.Internal
+    public void encryption(long nanos) {
+        add(counters, ENCRYPTION_NANOS, nanos);
+    }
+
+    /**
+     * Gets the number of buffers which could not be written to the socket during the last flush.
+     *
+     * @return the waiting buffer count, 0 if the connection is not behind
+     */
+    public int waitingBuffers() {
+        return (int) get(counters, WAITING_BUFFERS);
+    }
+
+    /**
+     * Gets the current counters.
+     *
+     * @return a snapshot of the counters
+     */
+    public @NotNull Snapshot snapshot() {
+        long[] packetsIn = new long[MAX_PACKET_ID];
+        long[] bytesIn = new long[MAX_PACKET_ID];
+        long[] packetsOut = new long[MAX_PACKET_ID];
+        long[] bytesOut = new long[MAX_PACKET_ID];
+        for (int i = 0; i < MAX_PACKET_ID; i++) {
+            packetsIn[i] = get(this.packetsIn, i);
+            bytesIn[i] = get(this.bytesIn, i);
+            packetsOut[i] = get(this.packetsOut, i);
+            bytesOut[i] = get(this.bytesOut, i);
+        }
+        return new Snapshot(packetsIn, bytesIn, packetsOut, bytesOut,
+                get(counters, SOCKET_BYTES_IN), get(counters, SOCKET_BYTES_OUT),
+                get(counters, FLUSH_COUNT), get(counters, FLUSH_NANOS), get(counters, MAX_FLUSH_NANOS),
+                get(counters, ENCRYPTION_NANOS), (int) get(counters, WAITING_BUFFERS),
+                get(counters, COMPRESSED_FRAMES_OUT), get(counters, COMPRESSED_FRAME_BYTES_OUT));
+    }
+
+    private void add(NetworkStatistics other) {
+        for (int i = 0; i < MAX_PACKET_ID; i++) {
+            add(packetsIn, i, get(other.packetsIn, i));
+            add(bytesIn, i, get(other.bytesIn, i));
+            add(packetsOut, i, get(other.packetsOut, i));
+            add(bytesOut, i, get(other.bytesOut, i));
+        }
+        for (int i = 0; i < COUNTER_COUNT; i++) {
+            if (i == WAITING_BUFFERS) continue;
+            final long value = get(other.counters, i);
+            if (i == MAX_FLUSH_NANOS) {
+                if (value > counters[i]) set(counters, i, value);
+            } else {
+                add(counters, i, value);
+            }
+        }
+    }
+
+    private static long get(long[] array, int index) {
+        return (long) LONGS.getOpaque(array, index);
+    }
+
+    private static void set(long[] array, int index, long value) {
+        LONGS.setOpaque(array, index, value);
+    }
+
+    private static void add(long[] array, int index, long value) {
+        // Single writer, no atomic read-modify-write required
+        LONGS.setOpaque(array, index, array[index] + value);
+    }
+
+    /**
+     * Reads a VarInt at an absolute index.
+     *
+     * @return the value in the low 32 bits, and its size in the high ones
+     */
+    private static long readVarInt(ByteBuffer buffer, int index) {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            final byte b = buffer.get(index + i);
+            value |= (b & 0x7F) << (i * 7);
+            if ((b & 0x80) == 0) return (long) (i + 1) << 32 | (value & 0xFFFFFFFFL);
+        }
+        throw new IllegalArgumentException("VarInt is too big");
+    }
+
+    /**
+     * Immutable view of network counters.
+     * <p>
+     * Per packet arrays are indexed by packet id, packet bytes do not include framing, compression nor encryption.
+     * Socket bytes are the bytes actually read from and written to the socket.
+     * Compressed frames are grouped packets whose id could not be read, and are not part of the per packet arrays.
+     */
+    public record Snapshot(long[] packetsIn, long[] bytesIn, long[] packetsOut, long[] bytesOut,
+                           long socketBytesIn, long socketBytesOut,
+                           long flushCount, long flushNanos, long maxFlushNanos,
+                           long encryptionNanos, int waitingBuffers,
+                           long compressedFramesOut, long compressedFrameBytesOut) {
+        public long totalPacketsIn() {
+            return sum(packetsIn);
+        }
+
+        public long totalPacketsOut() {
+            return sum(packetsOut);
+        }
+
+        /**
+         * Gets the average time spent writing to the socket per flush.
+         *
+         * @return the average flush time in nanoseconds
+         */
+        public double averageFlushNanos() {
+            return flushCount != 0 ? (double) flushNanos / flushCount : 0;
+        }
+
+        public @NotNull Snapshot merge(@NotNull Snapshot other) {
+            return new Snapshot(merge(packetsIn, other.packetsIn), merge(bytesIn, other.bytesIn),
+                    merge(packetsOut, other.packetsOut), merge(bytesOut, other.bytesOut),
+                    socketBytesIn + other.socketBytesIn, socketBytesOut + other.socketBytesOut,
+                    flushCount + other.flushCount, flushNanos + other.flushNanos,
+                    Math.max(maxFlushNanos, other.maxFlushNanos),
+                    encryptionNanos + other.encryptionNanos, waitingBuffers + other.waitingBuffers,
+                    compressedFramesOut + other.compressedFramesOut, compressedFrameBytesOut + other.compressedFrameBytesOut);
+        }
+
+        /**
+         * Exports the counters, including the server-wide compression ratios.
+         *
+         * @return the counters as json
+         */
+        public @NotNull JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("socketBytesIn", socketBytesIn);
+            json.addProperty("socketBytesOut", socketBytesOut);
+            json.addProperty("flushCount", flushCount);
+            json.addProperty("flushNanos", flushNanos);
+            json.addProperty("maxFlushNanos", maxFlushNanos);
+            json.addProperty("encryptionNanos", encryptionNanos);
+            json.addProperty("waitingBuffers", waitingBuffers);
+            json.addProperty("compressedFramesOut", compressedFramesOut);
+            json.addProperty("compressedFrameBytesOut", compressedFrameBytesOut);
+            final PacketCompression.Statistics compression = PacketCompression.statistics();
+            json.addProperty("deflateRatio", compression.deflateRatio());
+            json.addProperty("inflateRatio", compression.inflateRatio());
+            JsonArray packets = new JsonArray();
+            for (int i = 0; i < MAX_PACKET_ID; i++) {
+                if (packetsIn[i] == 0 && packetsOut[i] == 0) continue;
+                JsonObject packet = new JsonObject();
+                packet.addProperty("id", i);
+                packet.addProperty("packetsIn", packetsIn[i]);
+                packet.addProperty("bytesIn", bytesIn[i]);
+                packet.addProperty("packetsOut", packetsOut[i]);
+                packet.addProperty("bytesOut", bytesOut[i]);
+                packets.add(packet);
+            }
+            json.add("packets", packets);
+            return json;
+        }
+
+        private static long sum(long[] array) {
+            long sum = 0;
+            for (long value : array) sum += value;
+            return sum;
+        }
+
+        private static long[] merge(long[] first, long[] second) {
+            long[] result = new long[first.length];
+            for (int i = 0; i < result.length; i++) result[i] = first[i] + second[i];
+            return result;
+        }
+    }
+}
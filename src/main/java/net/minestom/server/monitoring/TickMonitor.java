@@ -1,13 +1,38 @@
 package net.minestom.server.monitoring;
 
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
 public class TickMonitor {
+    private static final TickPhase[] PHASES = TickPhase.values();
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final double[] phaseTimes;
+    private final List<ThreadProfile> threadProfiles;
+    private final Map<EntityType, Double> entityTypeTimes;
 
     public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, new double[PHASES.length]);
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, double @NotNull [] phaseTimes) {
+        this(tickTime, acquisitionTime, phaseTimes, List.of(), Map.of());
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, double @NotNull [] phaseTimes,
+                       @NotNull List<@NotNull ThreadProfile> threadProfiles,
+                       @NotNull Map<@NotNull EntityType, @NotNull Double> entityTypeTimes) {
+        if (phaseTimes.length != PHASES.length)
+            throw new IllegalArgumentException("Expected " + PHASES.length + " phase times, got " + phaseTimes.length);
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.phaseTimes = phaseTimes.clone();
+        this.threadProfiles = List.copyOf(threadProfiles);
+        this.entityTypeTimes = Map.copyOf(entityTypeTimes);
     }
 
     public double getTickTime() {
@@ -17,4 +42,69 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the time spent in a phase of the tick.
+     *
+     * @param phase the tick phase
+     * @return the phase time in milliseconds
+     */
+    public double getPhaseTime(@NotNull TickPhase phase) {
+        return phaseTimes[phase.ordinal()];
+    }
+
+    /**
+     * Gets the phase which took the most time.
+     *
+     * @return the slowest phase
+     */
+    public @NotNull TickPhase getSlowestPhase() {
+        TickPhase slowest = PHASES[0];
+        for (TickPhase phase : PHASES) {
+            if (phaseTimes[phase.ordinal()] > phaseTimes[slowest.ordinal()]) slowest = phase;
+        }
+        return slowest;
+    }
+
+    /**
+     * Gets the time spent by each tick thread during {@link TickPhase#DISPATCHER}.
+     *
+     * @return the profile of each tick thread
+     */
+    public @NotNull List<@NotNull ThreadProfile> getThreadProfiles() {
+        return threadProfiles;
+    }
+
+    /**
+     * Gets the time spent processing player packets, summed over all the tick threads.
+     *
+     * @return the packet processing time in milliseconds
+     */
+    public double getPacketTime() {
+        double time = 0;
+        for (ThreadProfile profile : threadProfiles) time += profile.packetTime();
+        return time;
+    }
+
+    /**
+     * Gets the time spent ticking entities, by entity type.
+     * <p>
+     * Empty unless the {@code minestom.profile-entity-types} property is enabled.
+     *
+     * @return the entity tick times in milliseconds
+     */
+    public @NotNull Map<@NotNull EntityType, @NotNull Double> getEntityTypeTimes() {
+        return entityTypeTimes;
+    }
+
+    /**
+     * Time spent by a tick thread during the dispatcher phase, in milliseconds.
+     *
+     * @param name       the thread name
+     * @param busyTime   the time spent ticking partitions
+     * @param idleTime   the time spent waiting for the other threads
+     * @param packetTime the time spent processing player packets, included in {@code busyTime}
+     */
+    public record ThreadProfile(@NotNull String name, double busyTime, double idleTime, double packetTime) {
+    }
 }
@@ -0,0 +1,31 @@
+package net.minestom.server.monitoring;
+
+/**
+ * Phases of a server tick, in execution order.
+ */
+public enum TickPhase {
+    /**
+     * Tasks of the server scheduler.
+     */
+    SCHEDULER,
+    /**
+     * Waiting players and keep alive handling.
+     */
+    CONNECTIONS,
+    /**
+     * Instance ticks.
+     */
+    INSTANCES,
+    /**
+     * Chunk and entity ticks on the dispatcher threads.
+     */
+    DISPATCHER,
+    /**
+     * Partition thread refresh.
+     */
+    REFRESH,
+    /**
+     * Packet flush.
+     */
+    FLUSH
+}
@@ -0,0 +1,133 @@
+package net.minestom.server.monitoring;
+
+import jdk.jfr.*;
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * JDK Flight Recorder events describing the server ticks.
+ * <p>
+ * Events are only created when enabled in the recording settings, e.g. {@code jfr configure +minestom.Tick#enabled=true}.
+ */
+@ApiStatus.Internal
+public final class TickRecording {
+    private static final String CATEGORY = "Minestom";
+
+    /**
+     * Emits the events of a tick.
+     *
+     * @param monitor the tick to record
+     */
+    public static void commit(@NotNull TickMonitor monitor) {
+        final Tick tick = new Tick();
+        if (tick.isEnabled()) {
+            tick.tickTime = nanos(monitor.getTickTime());
+            tick.acquisitionTime = nanos(monitor.getAcquisitionTime());
+            tick.scheduler = nanos(monitor.getPhaseTime(TickPhase.SCHEDULER));
+            tick.connections = nanos(monitor.getPhaseTime(TickPhase.CONNECTIONS));
+            tick.instances = nanos(monitor.getPhaseTime(TickPhase.INSTANCES));
+            tick.dispatcher = nanos(monitor.getPhaseTime(TickPhase.DISPATCHER));
+            tick.refresh = nanos(monitor.getPhaseTime(TickPhase.REFRESH));
+            tick.flush = nanos(monitor.getPhaseTime(TickPhase.FLUSH));
+            tick.packets = nanos(monitor.getPacketTime());
+            tick.commit();
+        }
+        if (ThreadTick.ENABLED.isEnabled()) {
+            for (TickMonitor.ThreadProfile profile : monitor.getThreadProfiles()) {
+                final ThreadTick event = new ThreadTick();
+                event.threadName = profile.name();
+                event.busyTime = nanos(profile.busyTime());
+                event.idleTime = nanos(profile.idleTime());
+                event.packetTime = nanos(profile.packetTime());
+                event.commit();
+            }
+        }
+        if (EntityTypeTick.ENABLED.isEnabled()) {
+            for (Map.Entry<EntityType, Double> entry : monitor.getEntityTypeTimes().entrySet()) {
+                final EntityTypeTick event = new EntityTypeTick();
+                event.entityType = entry.getKey().name();
+                event.tickTime = nanos(entry.getValue());
+                event.commit();
+            }
+        }
+    }
+
+    private static long nanos(double millis) {
+        return (long) (millis * 1e6D);
+    }
+
+    @Name("minestom.Tick")
+    @Label("Server Tick")
+    @Category(CATEGORY)
+    @Description("Time spent in each phase of a server tick")
+    @StackTrace(false)
+    static final class Tick extends Event {
+        @Label("Tick Time")
+        @Timespan
+        long tickTime;
+        @Label("Acquisition Time")
+        @Timespan
+        long acquisitionTime;
+        @Label("Scheduler")
+        @Timespan
+        long scheduler;
+        @Label("Connections")
+        @Timespan
+        long connections;
+        @Label("Instances")
+        @Timespan
+        long instances;
+        @Label("Dispatcher")
+        @Timespan
+        long dispatcher;
+        @Label("Refresh")
+        @Timespan
+        long refresh;
+        @Label("Flush")
+        @Timespan
+        long flush;
+        @Label("Packet Processing")
+        @Description("Time spent processing player packets, summed over the tick threads")
+        @Timespan
+        long packets;
+    }
+
+    @Name("minestom.ThreadTick")
+    @Label("Tick Thread")
+    @Category(CATEGORY)
+    @Description("Busy and idle time of a tick thread during the dispatcher phase")
+    @StackTrace(false)
+    static final class ThreadTick extends Event {
+        static final ThreadTick ENABLED = new ThreadTick();
+
+        @Label("Thread Name")
+        String threadName;
+        @Label("Busy Time")
+        @Timespan
+        long busyTime;
+        @Label("Idle Time")
+        @Timespan
+        long idleTime;
+        @Label("Packet Processing")
+        @Timespan
+        long packetTime;
+    }
+
+    @Name("minestom.EntityTypeTick")
+    @Label("Entity Type Tick")
+    @Category(CATEGORY)
+    @Description("Time spent ticking the entities of a type, requires the minestom.profile-entity-types property")
+    @StackTrace(false)
+    static final class EntityTypeTick extends Event {
+        static final EntityTypeTick ENABLED = new EntityTypeTick();
+
+        @Label("Entity Type")
+        String entityType;
+        @Label("Tick Time")
+        @Timespan
+        long tickTime;
+    }
+}
@@ -10,6 +10,7 @@ import net.minestom.server.event.player.PlayerLoginEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.packet.server.login.LoginSuccessPacket;
 import net.minestom.server.network.packet.server.play.KeepAlivePacket;
+import net.minestom.server.network.player.OverflowPolicy;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.utils.StringUtils;
@@ -21,6 +22,7 @@ import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,6 +36,7 @@ public final class ConnectionManager {
     private static final long KEEP_ALIVE_DELAY = 10_000;
     private static final long KEEP_ALIVE_KICK = 30_000;
     private static final Component TIMEOUT_TEXT = Component.text("Timeout", NamedTextColor.RED);
+    private static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.disconnect(Duration.ofMillis(KEEP_ALIVE_KICK));
 
     private final MessagePassingQueue<Player> waitingPlayers = new MpscUnboundedArrayQueue<>(64);
     private final Set<Player> players = new CopyOnWriteArraySet<>();
@@ -44,6 +47,8 @@ public final class ConnectionManager {
     private volatile UuidProvider uuidProvider = (playerConnection, username) -> UUID.randomUUID();
     // The player provider to have your own Player implementation
     private volatile PlayerProvider playerProvider = Player::new;
+    // The policy applied to connections exceeding their outbound budget
+    private volatile OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
 
     /**
      * Gets the {@link Player} linked to a {@link PlayerConnection}.
@@ -165,6 +170,26 @@ public final class ConnectionManager {
         return playerProvider;
     }
 
+    /**
+     * Changes how connections exceeding their outbound budget are handled.
+     *
+     * @param overflowPolicy the new {@link OverflowPolicy}, can be set to null to apply the default policy
+     */
+    public void setOverflowPolicy(@Nullable OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : DEFAULT_OVERFLOW_POLICY;
+    }
+
+    /**
+     * Retrieves the current {@link OverflowPolicy}, can be the default one if none is defined.
+     * <p>
+     * By default, droppable packets are skipped and the client is disconnected if it does not catch up within 30 seconds.
+     *
+     * @return the current {@link OverflowPolicy}
+     */
+    public @NotNull OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
     public synchronized void registerPlayer(@NotNull Player player) {
         this.players.add(player);
         this.connectionPlayerMap.put(player.getPlayerConnection(), player);
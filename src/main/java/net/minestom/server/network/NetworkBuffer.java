@@ -106,6 +106,136 @@ public final class NetworkBuffer {
         return impl.reader().read(this);
     }
 
+    public void writeBoolean(boolean value) {
+        ensureSize(1);
+        this.nioBuffer.put(writeIndex, value ? (byte) 1 : (byte) 0);
+        this.writeIndex += 1;
+    }
+
+    public void writeByte(byte value) {
+        ensureSize(1);
+        this.nioBuffer.put(writeIndex, value);
+        this.writeIndex += 1;
+    }
+
+    public void writeShort(short value) {
+        ensureSize(2);
+        this.nioBuffer.putShort(writeIndex, value);
+        this.writeIndex += 2;
+    }
+
+    public void writeInt(int value) {
+        ensureSize(4);
+        this.nioBuffer.putInt(writeIndex, value);
+        this.writeIndex += 4;
+    }
+
+    public void writeLong(long value) {
+        ensureSize(8);
+        this.nioBuffer.putLong(writeIndex, value);
+        this.writeIndex += 8;
+    }
+
+    public void writeFloat(float value) {
+        ensureSize(4);
+        this.nioBuffer.putFloat(writeIndex, value);
+        this.writeIndex += 4;
+    }
+
+    public void writeDouble(double value) {
+        ensureSize(8);
+        this.nioBuffer.putDouble(writeIndex, value);
+        this.writeIndex += 8;
+    }
+
+    public void writeVarInt(int value) {
+        final int index = writeIndex;
+        if ((value & (0xFFFFFFFF << 7)) == 0) {
+            ensureSize(1);
+            this.nioBuffer.put(index, (byte) value);
+            this.writeIndex += 1;
+        } else if ((value & (0xFFFFFFFF << 14)) == 0) {
+            ensureSize(2);
+            this.nioBuffer.putShort(index, (short) ((value & 0x7F | 0x80) << 8 | (value >>> 7)));
+            this.writeIndex += 2;
+        } else if ((value & (0xFFFFFFFF << 21)) == 0) {
+            ensureSize(3);
+            var nio = this.nioBuffer;
+            nio.put(index, (byte) (value & 0x7F | 0x80));
+            nio.put(index + 1, (byte) ((value >>> 7) & 0x7F | 0x80));
+            nio.put(index + 2, (byte) (value >>> 14));
+            this.writeIndex += 3;
+        } else if ((value & (0xFFFFFFFF << 28)) == 0) {
+            ensureSize(4);
+            this.nioBuffer.putInt(index, (value & 0x7F | 0x80) << 24 | (((value >>> 7) & 0x7F | 0x80) << 16)
+                    | ((value >>> 14) & 0x7F | 0x80) << 8 | (value >>> 21));
+            this.writeIndex += 4;
+        } else {
+            ensureSize(5);
+            var nio = this.nioBuffer;
+            nio.putInt(index, (value & 0x7F | 0x80) << 24 | ((value >>> 7) & 0x7F | 0x80) << 16
+                    | ((value >>> 14) & 0x7F | 0x80) << 8 | ((value >>> 21) & 0x7F | 0x80));
+            nio.put(index + 4, (byte) (value >>> 28));
+            this.writeIndex += 5;
+        }
+    }
+
+    public boolean readBoolean() {
+        final byte value = nioBuffer.get(readIndex);
+        this.readIndex += 1;
+        return value == 1;
+    }
+
+    public byte readByte() {
+        final byte value = nioBuffer.get(readIndex);
+        this.readIndex += 1;
+        return value;
+    }
+
+    public short readShort() {
+        final short value = nioBuffer.getShort(readIndex);
+        this.readIndex += 2;
+        return value;
+    }
+
+    public int readInt() {
+        final int value = nioBuffer.getInt(readIndex);
+        this.readIndex += 4;
+        return value;
+    }
+
+    public long readLong() {
+        final long value = nioBuffer.getLong(readIndex);
+        this.readIndex += 8;
+        return value;
+    }
+
+    public float readFloat() {
+        final float value = nioBuffer.getFloat(readIndex);
+        this.readIndex += 4;
+        return value;
+    }
+
+    public double readDouble() {
+        final double value = nioBuffer.getDouble(readIndex);
+        this.readIndex += 8;
+        return value;
+    }
+
+    public int readVarInt() {
+        // https://github.com/jvm-profiling-tools/async-profiler/blob/a38a375dc62b31a8109f3af97366a307abb0fe6f/src/converter/one/jfr/JfrReader.java#L393
+        int index = readIndex;
+        int result = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = nioBuffer.get(index++);
+            result |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                this.readIndex = index;
+                return result;
+            }
+        }
+    }
+
     public <T> void writeOptional(@NotNull Type<T> type, @Nullable T value) {
         write(BOOLEAN, value != null);
         if (value != null) write(type, value);
@@ -315,6 +445,14 @@ public final class NetworkBuffer {
         void write(@NotNull NetworkBuffer writer);
     }
 
+    /**
+     * A {@link Writer} able to compute its exact encoded size before being written,
+     * allowing the packet length to be written without reserving space.
+     */
+    public interface SizedWriter extends Writer {
+        int sizeOf();
+    }
+
     public static byte[] makeArray(@NotNull Consumer<@NotNull NetworkBuffer> writing) {
         NetworkBuffer writer = new NetworkBuffer();
         writing.accept(writer);
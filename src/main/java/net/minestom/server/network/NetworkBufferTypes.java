@@ -26,139 +26,58 @@ final class NetworkBufferTypes {
 
     static final TypeImpl<Boolean> BOOLEAN = new TypeImpl<>(Boolean.class,
             (buffer, value) -> {
-                buffer.ensureSize(1);
-                buffer.nioBuffer.put(buffer.writeIndex(), value ? (byte) 1 : (byte) 0);
-                return 1;
+                buffer.writeBoolean(value);
+                return -1;
             },
-            buffer -> {
-                final byte value = buffer.nioBuffer.get(buffer.readIndex());
-                buffer.readIndex += 1;
-                return value == 1;
-            });
+            NetworkBuffer::readBoolean);
     static final TypeImpl<Byte> BYTE = new TypeImpl<>(Byte.class,
             (buffer, value) -> {
-                buffer.ensureSize(1);
-                buffer.nioBuffer.put(buffer.writeIndex(), value);
-                return 1;
+                buffer.writeByte(value);
+                return -1;
             },
-            buffer -> {
-                final byte value = buffer.nioBuffer.get(buffer.readIndex());
-                buffer.readIndex += 1;
-                return value;
-            });
+            NetworkBuffer::readByte);
     static final TypeImpl<Short> SHORT = new TypeImpl<>(Short.class,
             (buffer, value) -> {
-                buffer.ensureSize(2);
-                buffer.nioBuffer.putShort(buffer.writeIndex(), value);
-                return 2;
+                buffer.writeShort(value);
+                return -1;
             },
-            buffer -> {
-                final short value = buffer.nioBuffer.getShort(buffer.readIndex());
-                buffer.readIndex += 2;
-                return value;
-            });
+            NetworkBuffer::readShort);
     static final TypeImpl<Integer> UNSIGNED_SHORT = new TypeImpl<>(Integer.class,
             (buffer, value) -> {
-                buffer.ensureSize(2);
-                buffer.nioBuffer.putShort(buffer.writeIndex(), (short) (value & 0xFFFF));
-                return 2;
+                buffer.writeShort((short) (value & 0xFFFF));
+                return -1;
             },
-            buffer -> {
-                final short value = buffer.nioBuffer.getShort(buffer.readIndex());
-                buffer.readIndex += 2;
-                return value & 0xFFFF;
-            });
+            buffer -> buffer.readShort() & 0xFFFF);
     static final TypeImpl<Integer> INT = new TypeImpl<>(Integer.class,
             (buffer, value) -> {
-                buffer.ensureSize(4);
-                buffer.nioBuffer.putInt(buffer.writeIndex(), value);
-                return 4;
+                buffer.writeInt(value);
+                return -1;
             },
-            buffer -> {
-                final int value = buffer.nioBuffer.getInt(buffer.readIndex());
-                buffer.readIndex += 4;
-                return value;
-            });
+            NetworkBuffer::readInt);
     static final TypeImpl<Long> LONG = new TypeImpl<>(Long.class,
             (buffer, value) -> {
-                buffer.ensureSize(8);
-                buffer.nioBuffer.putLong(buffer.writeIndex(), value);
-                return 8;
+                buffer.writeLong(value);
+                return -1;
             },
-            buffer -> {
-                final long value = buffer.nioBuffer.getLong(buffer.readIndex());
-                buffer.readIndex += 8;
-                return value;
-            });
+            NetworkBuffer::readLong);
     static final TypeImpl<Float> FLOAT = new TypeImpl<>(Float.class,
             (buffer, value) -> {
-                buffer.ensureSize(4);
-                buffer.nioBuffer.putFloat(buffer.writeIndex(), value);
-                return 4;
+                buffer.writeFloat(value);
+                return -1;
             },
-            buffer -> {
-                final float value = buffer.nioBuffer.getFloat(buffer.readIndex());
-                buffer.readIndex += 4;
-                return value;
-            });
+            NetworkBuffer::readFloat);
     static final TypeImpl<Double> DOUBLE = new TypeImpl<>(Double.class,
             (buffer, value) -> {
-                buffer.ensureSize(8);
-                buffer.nioBuffer.putDouble(buffer.writeIndex(), value);
-                return 8;
+                buffer.writeDouble(value);
+                return -1;
             },
-            buffer -> {
-                final double value = buffer.nioBuffer.getDouble(buffer.readIndex());
-                buffer.readIndex += 8;
-                return value;
-            });
+            NetworkBuffer::readDouble);
     static final TypeImpl<Integer> VAR_INT = new TypeImpl<>(Integer.class,
-            (buffer, boxed) -> {
-                final int value = boxed;
-                final int index = buffer.writeIndex();
-                if ((value & (0xFFFFFFFF << 7)) == 0) {
-                    buffer.ensureSize(1);
-                    buffer.nioBuffer.put(index, (byte) value);
-                    return 1;
-                } else if ((value & (0xFFFFFFFF << 14)) == 0) {
-                    buffer.ensureSize(2);
-                    buffer.nioBuffer.putShort(index, (short) ((value & 0x7F | 0x80) << 8 | (value >>> 7)));
-                    return 2;
-                } else if ((value & (0xFFFFFFFF << 21)) == 0) {
-                    buffer.ensureSize(3);
-                    var nio = buffer.nioBuffer;
-                    nio.put(index, (byte) (value & 0x7F | 0x80));
-                    nio.put(index + 1, (byte) ((value >>> 7) & 0x7F | 0x80));
-                    nio.put(index + 2, (byte) (value >>> 14));
-                    return 3;
-                } else if ((value & (0xFFFFFFFF << 28)) == 0) {
-                    buffer.ensureSize(4);
-                    var nio = buffer.nioBuffer;
-                    nio.putInt(index, (value & 0x7F | 0x80) << 24 | (((value >>> 7) & 0x7F | 0x80) << 16)
-                            | ((value >>> 14) & 0x7F | 0x80) << 8 | (value >>> 21));
-                    return 4;
-                } else {
-                    buffer.ensureSize(5);
-                    var nio = buffer.nioBuffer;
-                    nio.putInt(index, (value & 0x7F | 0x80) << 24 | ((value >>> 7) & 0x7F | 0x80) << 16
-                            | ((value >>> 14) & 0x7F | 0x80) << 8 | ((value >>> 21) & 0x7F | 0x80));
-                    nio.put(index + 4, (byte) (value >>> 28));
-                    return 5;
-                }
+            (buffer, value) -> {
+                buffer.writeVarInt(value);
+                return -1;
             },
-            buffer -> {
-                int index = buffer.readIndex();
-                // https://github.com/jvm-profiling-tools/async-profiler/blob/a38a375dc62b31a8109f3af97366a307abb0fe6f/src/converter/one/jfr/JfrReader.java#L393
-                int result = 0;
-                for (int shift = 0; ; shift += 7) {
-                    byte b = buffer.nioBuffer.get(index++);
-                    result |= (b & 0x7f) << shift;
-                    if (b >= 0) {
-                        buffer.readIndex += index - buffer.readIndex();
-                        return result;
-                    }
-                }
-            });
+            NetworkBuffer::readVarInt);
     static final TypeImpl<Long> VAR_LONG = new TypeImpl<>(Long.class,
             (buffer, value) -> {
                 buffer.ensureSize(10);
@@ -0,0 +1,180 @@
+package net.minestom.server.network;
+
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression used for packets once {@link net.minestom.server.MinecraftServer#getCompressionThreshold()} is reached.
+ * <p>
+ * Deflaters and inflaters are reused per thread, the deflate level and strategy can be configured per packet class.
+ */
+@ApiStatus.Experimental
+public final class PacketCompression {
+    private static final int DEFAULT_LEVEL = Integer.getInteger("minestom.compression-level", Deflater.DEFAULT_COMPRESSION);
+    private static final Settings DEFAULT_SETTINGS = new Settings(DEFAULT_LEVEL, Deflater.DEFAULT_STRATEGY);
+
+    private static final ThreadLocal<LocalDeflater> LOCAL_DEFLATER = ThreadLocal.withInitial(LocalDeflater::new);
+    private static final ThreadLocal<Inflater> LOCAL_INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private static final Map<Class<?>, Settings> SETTINGS = new ConcurrentHashMap<>();
+
+    private static final LongAdder DEFLATE_COUNT = new LongAdder();
+    private static final LongAdder DEFLATE_INPUT = new LongAdder();
+    private static final LongAdder DEFLATE_OUTPUT = new LongAdder();
+    private static final LongAdder DEFLATE_NANOS = new LongAdder();
+    private static final LongAdder INFLATE_COUNT = new LongAdder();
+    private static final LongAdder INFLATE_INPUT = new LongAdder();
+    private static final LongAdder INFLATE_OUTPUT = new LongAdder();
+    private static final LongAdder INFLATE_NANOS = new LongAdder();
+
+    static {
+        // Chunks are big and frequent, favor speed over ratio
+        setSettings(ChunkDataPacket.class, new Settings(Deflater.BEST_SPEED, Deflater.DEFAULT_STRATEGY));
+    }
+
+    private PacketCompression() {
+    }
+
+    /**
+     * Changes the compression settings of a packet type.
+     *
+     * @param type     the packet class
+     * @param settings the new settings, null to restore the default ones
+     */
+    public static void setSettings(@NotNull Class<? extends NetworkBuffer.Writer> type, @Nullable Settings settings) {
+        if (settings != null) SETTINGS.put(type, settings);
+        else SETTINGS.remove(type);
+    }
+
+    /**
+     * Gets the compression settings of a packet type.
+     *
+     * @param type the packet class
+     * @return the settings of the packet type, or the default ones
+     */
+    public static @NotNull Settings getSettings(@NotNull Class<?> type) {
+        return SETTINGS.getOrDefault(type, DEFAULT_SETTINGS);
+    }
+
+    /**
+     * Gets the compression counters since the server start.
+     *
+     * @return a snapshot of the counters
+     */
+    public static @NotNull Statistics statistics() {
+        return new Statistics(DEFLATE_COUNT.sum(), DEFLATE_INPUT.sum(), DEFLATE_OUTPUT.sum(), DEFLATE_NANOS.sum(),
+                INFLATE_COUNT.sum(), INFLATE_INPUT.sum(), INFLATE_OUTPUT.sum(), INFLATE_NANOS.sum());
+    }
+
+    /**
+     * Compresses {@code input} into {@code output} using the settings of {@code type}.
+     *
+     * @return the compressed length
+     */
+    @ApiStatus.Internal
+    public static int deflate(@NotNull Class<?> type, @NotNull ByteBuffer input, @NotNull ByteBuffer output) {
+        final long start = System.nanoTime();
+        final int inputLength = input.remaining();
+        final Deflater deflater = LOCAL_DEFLATER.get().get(getSettings(type));
+        deflater.setInput(input);
+        deflater.finish();
+        final int outputStart = output.position();
+        while (!deflater.finished() && output.hasRemaining()) deflater.deflate(output);
+        final int length = output.position() - outputStart;
+        deflater.reset();
+        DEFLATE_COUNT.increment();
+        DEFLATE_INPUT.add(inputLength);
+        DEFLATE_OUTPUT.add(length);
+        DEFLATE_NANOS.add(System.nanoTime() - start);
+        return length;
+    }
+
+    /**
+     * Decompresses {@code input} into {@code output} using the inflater of the current thread.
+     *
+     * @return the decompressed length
+     */
+    @ApiStatus.Internal
+    public static int inflate(@NotNull ByteBuffer input, @NotNull ByteBuffer output) throws DataFormatException {
+        final long start = System.nanoTime();
+        final int inputLength = input.remaining();
+        final Inflater inflater = LOCAL_INFLATER.get();
+        try {
+            inflater.setInput(input);
+            final int length = inflater.inflate(output);
+            INFLATE_COUNT.increment();
+            INFLATE_INPUT.add(inputLength);
+            INFLATE_OUTPUT.add(length);
+            INFLATE_NANOS.add(System.nanoTime() - start);
+            return length;
+        } finally {
+            inflater.reset();
+        }
+    }
+
+    /**
+     * Deflate parameters of a packet type.
+     *
+     * @param level    the compression level (see {@link Deflater#setLevel(int)})
+     * @param strategy the compression strategy (see {@link Deflater#setStrategy(int)})
+     */
+    public record Settings(int level, int strategy) {
+        public Settings {
+            if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION)
+                throw new IllegalArgumentException("Invalid compression level: " + level);
+            if (strategy != Deflater.DEFAULT_STRATEGY && strategy != Deflater.FILTERED && strategy != Deflater.HUFFMAN_ONLY)
+                throw new IllegalArgumentException("Invalid compression strategy: " + strategy);
+        }
+    }
+
+    public record Statistics(long deflateCount, long deflateInput, long deflateOutput, long deflateNanos,
+                             long inflateCount, long inflateInput, long inflateOutput, long inflateNanos) {
+        /**
+         * Gets the ratio between compressed and uncompressed outgoing data.
+         *
+         * @return the outgoing compression ratio, 1 if nothing has been compressed
+         */
+        public double deflateRatio() {
+            return deflateInput != 0 ? (double) deflateOutput / deflateInput : 1;
+        }
+
+        /**
+         * Gets the ratio between compressed and uncompressed incoming data.
+         *
+         * @return the incoming compression ratio, 1 if nothing has been decompressed
+         */
+        public double inflateRatio() {
+            return inflateOutput != 0 ? (double) inflateInput / inflateOutput : 1;
+        }
+    }
+
+    private static final class LocalDeflater {
+        // One deflater per settings, changing the parameters of a deflater only applies them on the next deflate call
+        private final Map<Settings, Deflater> deflaters = new HashMap<>();
+        private Settings lastSettings;
+        private Deflater lastDeflater;
+
+        Deflater get(Settings settings) {
+            if (settings.equals(lastSettings)) return lastDeflater;
+            final Deflater deflater = deflaters.computeIfAbsent(settings, s -> {
+                Deflater created = new Deflater(s.level());
+                created.setStrategy(s.strategy());
+                return created;
+            });
+            this.lastSettings = settings;
+            this.lastDeflater = deflater;
+            return deflater;
+        }
+    }
+}
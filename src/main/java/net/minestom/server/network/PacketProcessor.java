@@ -6,6 +6,7 @@ import net.minestom.server.network.packet.client.ClientPacketsHandler;
 import net.minestom.server.network.packet.client.ClientPreplayPacket;
 import net.minestom.server.network.packet.client.handshake.HandshakePacket;
 import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.server.utils.PropertyUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.ByteBuffer;
@@ -19,6 +20,15 @@ import java.nio.ByteBuffer;
 public record PacketProcessor(@NotNull ClientPacketsHandler statusHandler,
                               @NotNull ClientPacketsHandler loginHandler,
                               @NotNull ClientPacketsHandler playHandler) {
+    /**
+     * Decodes movement packets directly into the player {@link net.minestom.server.listener.MovementSlot}
+     * instead of queuing a packet object.
+     * <p>
+     * Movement packets then skip {@link net.minestom.server.event.player.PlayerPacketEvent}
+     * and custom packet listeners.
+     */
+    private static final boolean MOVEMENT_FAST_PATH = PropertyUtils.getBoolean("minestom.movement-fast-path", false);
+
     public PacketProcessor() {
         this(new ClientPacketsHandler.Status(),
                 new ClientPacketsHandler.Login(),
@@ -41,6 +51,15 @@ public record PacketProcessor(@NotNull ClientPacketsHandler statusHandler,
     }
 
     public ClientPacket process(@NotNull PlayerConnection connection, int packetId, ByteBuffer body) {
+        if (MOVEMENT_FAST_PATH && connection.getConnectionState() == ConnectionState.PLAY &&
+                playHandler instanceof ClientPacketsHandler.Play play) {
+            final int movementFlags = play.movementFlags(packetId);
+            final Player player = connection.getPlayer();
+            if (movementFlags != -1 && player != null) {
+                player.movementSlot().read(movementFlags, body);
+                return null;
+            }
+        }
         final ClientPacket packet = create(connection.getConnectionState(), packetId, body);
         if (packet instanceof ClientPreplayPacket prePlayPacket) {
             prePlayPacket.process(connection);
@@ -1,5 +1,6 @@
 package net.minestom.server.network.packet.client;
 
+import net.minestom.server.listener.MovementSlot;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.login.EncryptionResponsePacket;
 import net.minestom.server.network.packet.client.login.LoginPluginResponsePacket;
@@ -53,10 +54,26 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
     public static final class Play extends ClientPacketsHandler {
         private static int nextId = 0;
 
+        private final int positionId, positionAndRotationId, rotationId, onGroundId;
+
         private static int nextPlayId() {
             return nextId++;
         }
 
+        /**
+         * Gets the content of a movement packet.
+         *
+         * @param packetId the packet id
+         * @return the {@link MovementSlot} flags of the packet, -1 if not a movement packet
+         */
+        public int movementFlags(int packetId) {
+            if (packetId == positionId) return MovementSlot.POSITION;
+            if (packetId == positionAndRotationId) return MovementSlot.POSITION | MovementSlot.ROTATION;
+            if (packetId == rotationId) return MovementSlot.ROTATION;
+            if (packetId == onGroundId) return 0;
+            return -1;
+        }
+
         public Play() {
             register(nextPlayId(), ClientTeleportConfirmPacket::new);
             register(nextPlayId(), ClientQueryBlockNbtPacket::new);
@@ -78,10 +95,14 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
             register(nextPlayId(), ClientGenerateStructurePacket::new);
             register(nextPlayId(), ClientKeepAlivePacket::new);
             nextPlayId(); // lock difficulty
-            register(nextPlayId(), ClientPlayerPositionPacket::new);
-            register(nextPlayId(), ClientPlayerPositionAndRotationPacket::new);
-            register(nextPlayId(), ClientPlayerRotationPacket::new);
-            register(nextPlayId(), ClientPlayerPacket::new);
+            this.positionId = nextPlayId();
+            register(positionId, ClientPlayerPositionPacket::new);
+            this.positionAndRotationId = nextPlayId();
+            register(positionAndRotationId, ClientPlayerPositionAndRotationPacket::new);
+            this.rotationId = nextPlayId();
+            register(rotationId, ClientPlayerRotationPacket::new);
+            this.onGroundId = nextPlayId();
+            register(onGroundId, ClientPlayerPacket::new);
             register(nextPlayId(), ClientVehicleMovePacket::new);
             register(nextPlayId(), ClientSteerBoatPacket::new);
             register(nextPlayId(), ClientPickItemPacket::new);
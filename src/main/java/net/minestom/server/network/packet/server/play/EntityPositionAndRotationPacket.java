@@ -9,7 +9,8 @@ import org.jetbrains.annotations.NotNull;
 import static net.minestom.server.network.NetworkBuffer.*;
 
 public record EntityPositionAndRotationPacket(int entityId, short deltaX, short deltaY, short deltaZ,
-                                              float yaw, float pitch, boolean onGround) implements ServerPacket {
+                                              float yaw, float pitch, boolean onGround)
+        implements ServerPacket, NetworkBuffer.SizedWriter {
     public EntityPositionAndRotationPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), reader.read(SHORT), reader.read(SHORT), reader.read(SHORT),
                 reader.read(BYTE) * 360f / 256f, reader.read(BYTE) * 360f / 256f, reader.read(BOOLEAN));
@@ -17,13 +18,12 @@ public record EntityPositionAndRotationPacket(int entityId, short deltaX, short
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(SHORT, deltaX);
-        writer.write(SHORT, deltaY);
-        writer.write(SHORT, deltaZ);
-        writer.write(BYTE, (byte) (yaw * 256 / 360));
-        writer.write(BYTE, (byte) (pitch * 256 / 360));
-        writer.write(BOOLEAN, onGround);
+        EntityPositionAndRotationPacketSerializer.write(writer, this);
+    }
+
+    @Override
+    public int sizeOf() {
+        return EntityPositionAndRotationPacketSerializer.sizeOf(this);
     }
 
     @Override
@@ -6,24 +6,22 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.*;
-
-public record EntityTeleportPacket(int entityId, Pos position, boolean onGround) implements ServerPacket {
+public record EntityTeleportPacket(int entityId, Pos position, boolean onGround)
+        implements ServerPacket, NetworkBuffer.SizedWriter {
     public EntityTeleportPacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(VAR_INT), new Pos(reader.read(DOUBLE), reader.read(DOUBLE), reader.read(DOUBLE),
-                        reader.read(BYTE) * 360f / 256f, reader.read(BYTE) * 360f / 256f),
-                reader.read(BOOLEAN));
+        this(reader.readVarInt(), new Pos(reader.readDouble(), reader.readDouble(), reader.readDouble(),
+                        reader.readByte() * 360f / 256f, reader.readByte() * 360f / 256f),
+                reader.readBoolean());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(DOUBLE, position.x());
-        writer.write(DOUBLE, position.y());
-        writer.write(DOUBLE, position.z());
-        writer.write(BYTE, (byte) (position.yaw() * 256f / 360f));
-        writer.write(BYTE, (byte) (position.pitch() * 256f / 360f));
-        writer.write(BOOLEAN, onGround);
+        EntityTeleportPacketSerializer.write(writer, this);
+    }
+
+    @Override
+    public int sizeOf() {
+        return EntityTeleportPacketSerializer.sizeOf(this);
     }
 
     @Override
@@ -0,0 +1,117 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Decides what to do with outgoing packets once a connection exceeds its outbound budget
+ * (see {@link net.minestom.server.network.socket.Server#MAX_OUTBOUND_BUFFER_SIZE}).
+ * <p>
+ * Called from the connection worker thread, implementations must be thread-safe and fast.
+ */
+@ApiStatus.Experimental
+@FunctionalInterface
+public interface OverflowPolicy {
+
+    /**
+     * Writes every packet regardless of the amount of pending data.
+     */
+    static @NotNull OverflowPolicy none() {
+        return (connection, packet, overflowNanos) -> Action.WRITE;
+    }
+
+    /**
+     * Drops {@link #isDroppable(ServerPacket) droppable} packets while the connection is overflowing.
+     */
+    static @NotNull OverflowPolicy drop() {
+        return (connection, packet, overflowNanos) -> isDroppable(packet) ? Action.DROP : Action.WRITE;
+    }
+
+    /**
+     * Drops {@link #isDroppable(ServerPacket) droppable} packets while the connection is overflowing,
+     * and disconnects it if it did not catch up within {@code gracePeriod}.
+     *
+     * @param gracePeriod the time given to the client to consume its pending data
+     */
+    static @NotNull OverflowPolicy disconnect(@NotNull Duration gracePeriod) {
+        final long graceNanos = gracePeriod.toNanos();
+        return new OverflowPolicy() {
+            @Override
+            public @NotNull Action onOverflow(@NotNull PlayerSocketConnection connection, @NotNull ServerPacket packet, long overflowNanos) {
+                if (overflowNanos > graceNanos) return Action.DISCONNECT;
+                return isDroppable(packet) ? Action.DROP : Action.WRITE;
+            }
+
+            @Override
+            public @NotNull Action onGroupedOverflow(@NotNull PlayerSocketConnection connection, long overflowNanos) {
+                return overflowNanos > graceNanos ? Action.DISCONNECT : Action.WRITE;
+            }
+        };
+    }
+
+    /**
+     * Gets if a packet only carries transient state, and can therefore be skipped
+     * without desynchronizing the client.
+     * <p>
+     * Position packets are not droppable, relative moves as the client would drift,
+     * and teleports as they are the only way to correct such drift.
+     *
+     * @param packet the packet to check
+     * @return true if the packet can be dropped safely
+     */
+    static boolean isDroppable(@NotNull ServerPacket packet) {
+        return packet instanceof ParticlePacket ||
+                packet instanceof SoundEffectPacket ||
+                packet instanceof EntitySoundEffectPacket ||
+                packet instanceof EntityAnimationPacket ||
+                packet instanceof HitAnimationPacket ||
+                packet instanceof BlockBreakAnimationPacket ||
+                packet instanceof EntityHeadLookPacket ||
+                packet instanceof EntityRotationPacket ||
+                packet instanceof EntityVelocityPacket ||
+                packet instanceof TimeUpdatePacket;
+    }
+
+    /**
+     * Called for each packet sent while the connection is over budget.
+     *
+     * @param connection    the overflowing connection
+     * @param packet        the packet about to be written
+     * @param overflowNanos the time since the connection started overflowing, in nanoseconds
+     * @return the action to apply to the packet
+     */
+    @NotNull Action onOverflow(@NotNull PlayerSocketConnection connection, @NotNull ServerPacket packet, long overflowNanos);
+
+    /**
+     * Called for each group of viewable packets sent while the connection is over budget.
+     * <p>
+     * Groups mix every kind of packet and are therefore written by default, only the disconnection
+     * of a client that does not catch up can bound them.
+     *
+     * @param connection    the overflowing connection
+     * @param overflowNanos the time since the connection started overflowing, in nanoseconds
+     * @return the action to apply to the whole group
+     */
+    default @NotNull Action onGroupedOverflow(@NotNull PlayerSocketConnection connection, long overflowNanos) {
+        return Action.WRITE;
+    }
+
+    enum Action {
+        /**
+         * Writes the packet normally.
+         */
+        WRITE,
+        /**
+         * Skips the packet.
+         */
+        DROP,
+        /**
+         * Skips the packet and disconnects the client.
+         */
+        DISCONNECT
+    }
+}
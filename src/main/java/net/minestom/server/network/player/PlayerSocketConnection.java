@@ -6,13 +6,16 @@ import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.ListenerHandle;
+import net.minestom.server.event.player.PlayerOutboundOverflowEvent;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.monitoring.NetworkStatistics;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.server.*;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.socket.Server;
 import net.minestom.server.network.socket.Worker;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
@@ -73,6 +76,13 @@ public class PlayerSocketConnection extends PlayerConnection {
     private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
     private BinaryBuffer cacheBuffer;
+    private int cacheLength;
+    // Time at which the pending data exceeded the outbound budget, 0 if within budget
+    private long overflowStart;
+    // Tick buffer offset up to which data has been encrypted (or must stay unencrypted)
+    private int encryptedOffset;
+
+    private final NetworkStatistics statistics = NetworkStatistics.open();
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
@@ -85,6 +95,8 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     public void processPackets(BinaryBuffer readBuffer, PacketProcessor packetProcessor) {
+        this.statistics.socketIn(readBuffer.writerOffset() - cacheLength);
+        this.cacheLength = 0;
         // Decrypt data
         {
             final EncryptionContext encryptionContext = this.encryptionContext;
@@ -105,6 +117,7 @@ public class PlayerSocketConnection extends PlayerConnection {
                         if (!isOnline())
                             return; // Prevent packet corruption
                         ClientPacket packet = null;
+                        this.statistics.packetIn(id, payload.remaining());
                         try {
                             packet = packetProcessor.process(this, id, payload);
                         } catch (Exception e) {
@@ -125,6 +138,7 @@ public class PlayerSocketConnection extends PlayerConnection {
     public void consumeCache(BinaryBuffer buffer) {
         final BinaryBuffer cache = this.cacheBuffer;
         if (cache != null) {
+            this.cacheLength = cache.readableBytes();
             buffer.write(cache);
             this.cacheBuffer = null;
         }
@@ -171,7 +185,7 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     @ApiStatus.Internal
     public void write(@NotNull ByteBuffer buffer, int index, int length) {
-        this.workerQueue.relaxedOffer(() -> writeBufferSync(buffer, index, length));
+        this.workerQueue.relaxedOffer(() -> writeGroupedSync(buffer, index, length));
     }
 
     @ApiStatus.Internal
@@ -201,6 +215,7 @@ public class PlayerSocketConnection extends PlayerConnection {
         super.disconnect();
         this.workerQueue.relaxedOffer(() -> {
             this.worker.disconnect(this, channel);
+            this.statistics.close();
             final BinaryBuffer tick = tickBuffer.getAndSet(null);
             if (tick != null) POOL.add(tick);
             for (BinaryBuffer buffer : waitingBuffers) POOL.add(buffer);
@@ -208,6 +223,15 @@ public class PlayerSocketConnection extends PlayerConnection {
         });
     }
 
+    /**
+     * Gets the network counters of this connection.
+     *
+     * @return the connection statistics
+     */
+    public @NotNull NetworkStatistics statistics() {
+        return statistics;
+    }
+
     public @NotNull SocketChannel getChannel() {
         return channel;
     }
@@ -343,16 +367,22 @@ public class PlayerSocketConnection extends PlayerConnection {
             outgoing.call(event);
             if (event.isCancelled()) return;
         }
+        // Outbound budget
+        if (pendingBytes() > Server.MAX_OUTBOUND_BUFFER_SIZE &&
+                !handleOverflow(SendablePacket.extractServerPacket(packet))) return;
         // Write packet
         if (packet instanceof ServerPacket serverPacket) {
             writeServerPacketSync(serverPacket, compressed);
         } else if (packet instanceof FramedPacket framedPacket) {
             var buffer = framedPacket.body();
+            this.statistics.packetOut(framedPacket.packet().getId(), buffer.limit());
             writeBufferSync(buffer, 0, buffer.limit());
         } else if (packet instanceof CachedPacket cachedPacket) {
             var buffer = cachedPacket.body();
-            if (buffer != null) writeBufferSync(buffer, buffer.position(), buffer.remaining());
-            else writeServerPacketSync(cachedPacket.packet(), compressed);
+            if (buffer != null) {
+                this.statistics.packetOut(cachedPacket.packet().getId(), buffer.remaining());
+                writeBufferSync(buffer, buffer.position(), buffer.remaining());
+            } else writeServerPacketSync(cachedPacket.packet(), compressed);
         } else if (packet instanceof LazyPacket lazyPacket) {
             writeServerPacketSync(lazyPacket.packet(), compressed);
         } else {
@@ -360,6 +390,61 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
+    /**
+     * Writes already framed packets, grouped by {@link net.minestom.server.utils.PacketUtils#prepareViewablePacket}.
+     */
+    private void writeGroupedSync(@NotNull ByteBuffer buffer, int index, int length) {
+        if (!channel.isConnected()) return;
+        // Outbound budget
+        if (pendingBytes() > Server.MAX_OUTBOUND_BUFFER_SIZE && !handleOverflow(null)) return;
+        this.statistics.framesOut(buffer, index, length, compressed);
+        writeBufferSync(buffer, index, length);
+    }
+
+    /**
+     * Applies the {@link OverflowPolicy} to a packet sent while exceeding the outbound budget.
+     *
+     * @param serverPacket the packet to write, null for grouped packets
+     * @return true if the packet should be written
+     */
+    private boolean handleOverflow(@Nullable ServerPacket serverPacket) {
+        final long now = System.nanoTime();
+        if (overflowStart == 0) {
+            this.overflowStart = now;
+            final Player player = getPlayer();
+            if (player != null) EventDispatcher.call(new PlayerOutboundOverflowEvent(player, pendingBytes()));
+        }
+        final OverflowPolicy policy = MinecraftServer.getConnectionManager().getOverflowPolicy();
+        final long overflowNanos = now - overflowStart;
+        final OverflowPolicy.Action action = serverPacket != null ?
+                policy.onOverflow(this, serverPacket, overflowNanos) : policy.onGroupedOverflow(this, overflowNanos);
+        return switch (action) {
+            case WRITE -> true;
+            case DROP -> false;
+            case DISCONNECT -> {
+                if (isOnline()) {
+                    LOGGER.warn("Disconnecting {}, outbound budget exceeded ({} bytes pending)", getIdentifier(), pendingBytes());
+                    disconnect();
+                }
+                yield false;
+            }
+        };
+    }
+
+    /**
+     * Gets the amount of memory retained by data waiting to be written to the socket.
+     * <p>
+     * Must only be called from the worker thread.
+     *
+     * @return the pending bytes
+     */
+    @ApiStatus.Internal
+    public long pendingBytes() {
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null) return 0;
+        return (long) waitingBuffers.size() * localBuffer.capacity() + localBuffer.readableBytes();
+    }
+
     private void writeServerPacketSync(ServerPacket serverPacket, boolean compressed) {
         final Player player = getPlayer();
         if (player != null) {
@@ -370,72 +455,112 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
         try (var hold = ObjectPool.PACKET_POOL.hold()) {
             var buffer = PacketUtils.createFramedPacket(hold.get(), serverPacket, compressed);
+            this.statistics.packetOut(serverPacket.getId(), buffer.limit());
             writeBufferSync(buffer, 0, buffer.limit());
         }
     }
 
     private void writeBufferSync(@NotNull ByteBuffer buffer, int index, int length) {
-        // Encrypt data
-        final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null) { // Encryption support
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                ByteBuffer output = hold.get();
-                try {
-                    length = encryptionContext.encrypt().update(buffer.slice(index, length), output);
-                    writeBufferSync0(output, 0, length);
-                } catch (ShortBufferException e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-                return;
-            }
-        }
-        writeBufferSync0(buffer, index, length);
-    }
-
-    private void writeBufferSync0(@NotNull ByteBuffer buffer, int index, int length) {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
         if (localBuffer == null)
             return; // Socket is closed
+        // Data is written as plaintext, encryption (if enabled) is applied in bulk before flushing
+        final EncryptionContext encryptionContext = this.encryptionContext;
         final int capacity = localBuffer.capacity();
         if (length <= capacity) {
-            if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
+            if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer(encryptionContext);
             localBuffer.write(buffer, index, length);
         } else {
             final int bufferCount = length / capacity + 1;
             for (int i = 0; i < bufferCount; i++) {
                 final int sliceStart = i * capacity;
                 final int sliceLength = Math.min(length, sliceStart + capacity) - sliceStart;
-                if (!localBuffer.canWrite(sliceLength)) localBuffer = updateLocalBuffer();
+                if (!localBuffer.canWrite(sliceLength)) localBuffer = updateLocalBuffer(encryptionContext);
                 localBuffer.write(buffer, sliceStart, sliceLength);
             }
         }
+        if (encryptionContext == null) {
+            // Written before encryption has been enabled, must be sent as-is
+            this.encryptedOffset = localBuffer.writerOffset();
+        }
+        this.worker.scheduleFlush(this);
     }
 
-    public void flushSync() throws IOException {
+    /**
+     * Encrypts in place the data written to {@code buffer} since the last call, using a single cipher update.
+     */
+    private void encryptPending(@NotNull EncryptionContext encryptionContext, @NotNull BinaryBuffer buffer) {
+        final int start = this.encryptedOffset;
+        final int end = buffer.writerOffset();
+        if (start == end) return;
+        ByteBuffer region = buffer.asByteBuffer(start, end - start);
+        final long time = System.nanoTime();
+        try {
+            encryptionContext.encrypt().update(region, region.duplicate());
+        } catch (ShortBufferException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+        this.statistics.encryption(System.nanoTime() - time);
+        this.encryptedOffset = end;
+    }
+
+    /**
+     * Writes as much pending data as possible to the socket.
+     *
+     * @return true if all the pending data has been written, false if the socket cannot accept more
+     * @throws IOException if the socket is closed
+     */
+    public boolean flushSync() throws IOException {
         final SocketChannel channel = this.channel;
         final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
         if (!channel.isConnected()) throw new ClosedChannelException();
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null)
+            return true; // Socket is closed
+        final EncryptionContext encryptionContext = this.encryptionContext;
+        if (encryptionContext != null) encryptPending(encryptionContext, localBuffer);
+        final long time = System.nanoTime();
+        final boolean complete;
+        final long written;
         if (waitingBuffers.isEmpty()) {
-            BinaryBuffer localBuffer = tickBuffer.getPlain();
-            if (localBuffer == null)
-                return; // Socket is closed
-            localBuffer.writeChannel(channel);
+            final int readable = localBuffer.readableBytes();
+            complete = localBuffer.writeChannel(channel);
+            written = readable - localBuffer.readableBytes();
         } else {
-            // Write as much as possible from the waiting list
+            // Write the whole chain (waiting list + tick buffer) in a single gathering call
+            final int size = waitingBuffers.size();
+            BinaryBuffer[] buffers = waitingBuffers.toArray(new BinaryBuffer[size + 1]);
+            buffers[size] = localBuffer;
+            long readable = 0;
+            for (BinaryBuffer buffer : buffers) readable += buffer.readableBytes();
+            complete = BinaryBuffer.writeChannel(channel, buffers);
+            for (BinaryBuffer buffer : buffers) readable -= buffer.readableBytes();
+            written = readable;
+            // Release the fully written buffers, stop at the first partially written one
             Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
             while (iterator.hasNext()) {
                 BinaryBuffer waitingBuffer = iterator.next();
-                if (!waitingBuffer.writeChannel(channel)) break;
+                if (waitingBuffer.readableBytes() != 0) break;
                 iterator.remove();
                 POOL.add(waitingBuffer);
             }
         }
+        this.statistics.socketOut(written);
+        this.statistics.flush(System.nanoTime() - time, waitingBuffers.size());
+        if (overflowStart != 0 && pendingBytes() <= Server.MAX_OUTBOUND_BUFFER_SIZE) {
+            // Client caught up
+            this.overflowStart = 0;
+        }
+        return complete;
     }
 
-    private BinaryBuffer updateLocalBuffer() {
+    private BinaryBuffer updateLocalBuffer(@Nullable EncryptionContext encryptionContext) {
+        final BinaryBuffer currentBuffer = tickBuffer.getPlain();
+        if (encryptionContext != null) encryptPending(encryptionContext, currentBuffer);
         BinaryBuffer newBuffer = POOL.get();
-        this.waitingBuffers.add(tickBuffer.getPlain());
+        this.waitingBuffers.add(currentBuffer);
         this.tickBuffer.setPlain(newBuffer);
+        this.encryptedOffset = 0;
         return newBuffer;
     }
 
@@ -2,6 +2,7 @@ package net.minestom.server.network.socket;
 
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.utils.PropertyUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -12,6 +13,7 @@ import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -20,6 +22,14 @@ public final class Server {
     public static final int MAX_PACKET_SIZE = Integer.getInteger("minestom.max-packet-size", 2_097_151); // 3 bytes var-int
     public static final int SOCKET_SEND_BUFFER_SIZE = Integer.getInteger("minestom.send-buffer-size", 262_143);
     public static final int SOCKET_RECEIVE_BUFFER_SIZE = Integer.getInteger("minestom.receive-buffer-size", 32_767);
+    public static final long MAX_OUTBOUND_BUFFER_SIZE = Long.getLong("minestom.max-outbound-buffer-size", 33_554_432); // 32MB
+    /**
+     * Opens one listening socket per acceptor using {@link StandardSocketOptions#SO_REUSEPORT},
+     * each accepting from a worker selector instead of the single entrypoint thread.
+     * Ignored when the option is not supported by the platform (only reliably balanced on Linux).
+     */
+    public static final boolean REUSE_PORT = PropertyUtils.getBoolean("minestom.reuse-port", false);
+    public static final int ACCEPTOR_COUNT = Integer.getInteger("minestom.acceptors", WORKER_COUNT);
 
     public static final boolean NO_DELAY = true;
 
@@ -30,7 +40,7 @@ public final class Server {
     private final List<Worker> workers;
     private int index;
 
-    private ServerSocketChannel serverSocket;
+    private final List<ServerSocketChannel> serverSockets = new ArrayList<>();
     private SocketAddress socketAddress;
     private String address;
     private int port;
@@ -58,30 +68,48 @@ public final class Server {
         }
 
         ServerSocketChannel server = ServerSocketChannel.open(family);
-        server.bind(address);
+        if (REUSE_PORT && family != StandardProtocolFamily.UNIX &&
+                server.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT)) {
+            server.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+            server.bind(address);
+            // Bind the other acceptors to the resolved address, in case the port was ephemeral
+            final SocketAddress boundAddress = server.getLocalAddress();
+            this.port = ((InetSocketAddress) boundAddress).getPort();
+            registerAcceptor(server, workers.get(0).selector);
+            final int acceptorCount = Math.max(1, Math.min(ACCEPTOR_COUNT, WORKER_COUNT));
+            for (int i = 1; i < acceptorCount; i++) {
+                ServerSocketChannel acceptor = ServerSocketChannel.open(family);
+                acceptor.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+                acceptor.bind(boundAddress);
+                registerAcceptor(acceptor, workers.get(i).selector);
+            }
+        } else {
+            server.bind(address);
+            registerAcceptor(server, selector);
+        }
+        this.socketAddress = address;
+    }
+
+    private void registerAcceptor(ServerSocketChannel server, Selector selector) throws IOException {
         server.configureBlocking(false);
         server.register(selector, SelectionKey.OP_ACCEPT);
-        this.serverSocket = server;
-        this.socketAddress = address;
+        this.serverSockets.add(server);
     }
 
     @ApiStatus.Internal
     public void start() {
         this.workers.forEach(Thread::start);
+        if (selector.keys().isEmpty()) {
+            // Acceptors are owned by the workers
+            return;
+        }
         new Thread(() -> {
             while (!stop) {
                 // Busy wait for connections
                 try {
                     this.selector.select(key -> {
                         if (!key.isAcceptable()) return;
-                        try {
-                            // Register socket and forward to thread
-                            Worker worker = findWorker();
-                            final SocketChannel client = serverSocket.accept();
-                            worker.receiveConnection(client);
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
+                        accept((ServerSocketChannel) key.channel());
                     });
                 } catch (IOException e) {
                     MinecraftServer.getExceptionManager().handleException(e);
@@ -90,6 +118,20 @@ public final class Server {
         }, "Ms-entrypoint").start();
     }
 
+    /**
+     * Accepts all the pending connections of a listening socket and forwards them to the least loaded workers.
+     */
+    void accept(ServerSocketChannel serverSocket) {
+        try {
+            SocketChannel client;
+            while ((client = serverSocket.accept()) != null) {
+                findWorker().receiveConnection(client);
+            }
+        } catch (IOException e) {
+            if (!stop) MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
     public boolean isOpen() {
         return !stop;
     }
@@ -97,8 +139,8 @@ public final class Server {
     public void stop() {
         this.stop = true;
         try {
-            if(serverSocket != null) {
-                this.serverSocket.close();
+            for (ServerSocketChannel serverSocket : serverSockets) {
+                serverSocket.close();
             }
 
             if (socketAddress instanceof UnixDomainSocketAddress unixDomainSocketAddress) {
@@ -128,8 +170,23 @@ public final class Server {
         return port;
     }
 
+    /**
+     * Finds the worker with the fewest connections, ties are broken by rotation.
+     * <p>
+     * May be called concurrently by multiple acceptors, the rotation index is only a hint.
+     */
     private Worker findWorker() {
-        this.index = ++index % WORKER_COUNT;
-        return workers.get(index);
+        final int start = this.index = (index + 1) % WORKER_COUNT;
+        Worker result = workers.get(start);
+        int load = result.connectionCount();
+        for (int i = 1; i < WORKER_COUNT && load > 0; i++) {
+            final Worker worker = workers.get((start + i) % WORKER_COUNT);
+            final int workerLoad = worker.connectionCount();
+            if (workerLoad < load) {
+                result = worker;
+                load = workerLoad;
+            }
+        }
+        return result;
     }
 }
@@ -14,8 +14,11 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -27,6 +30,8 @@ public final class Worker extends MinestomThread {
     private final Map<SocketChannel, PlayerSocketConnection> connectionMap = new ConcurrentHashMap<>();
     private final Server server;
     private final MpscUnboundedXaddArrayQueue<Runnable> queue = new MpscUnboundedXaddArrayQueue<>(1024);
+    // Connections with data waiting to be flushed, only accessed from this thread
+    private final Set<PlayerSocketConnection> flushSet = new HashSet<>();
 
     Worker(Server server) {
         super("Ms-worker-" + COUNTER.getAndIncrement());
@@ -47,19 +52,17 @@ public final class Worker extends MinestomThread {
                 } catch (Exception e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
-                // Flush all connections if needed
-                for (PlayerSocketConnection connection : connectionMap.values()) {
-                    try {
-                        connection.flushSync();
-                    } catch (Exception e) {
-                        connection.disconnect();
-                    }
-                }
+                // Flush connections with pending data
+                flushConnections();
                 // Wait for an event
                 this.selector.select(key -> {
+                    if (key.channel() instanceof ServerSocketChannel serverSocket) {
+                        // Listening socket owned by this worker (SO_REUSEPORT)
+                        if (key.isValid() && key.isAcceptable()) this.server.accept(serverSocket);
+                        return;
+                    }
                     final SocketChannel channel = (SocketChannel) key.channel();
                     if (!channel.isOpen()) return;
-                    if (!key.isReadable()) return;
                     final PlayerSocketConnection connection = connectionMap.get(channel);
                     if (connection == null) {
                         try {
@@ -69,6 +72,12 @@ public final class Worker extends MinestomThread {
                         }
                         return;
                     }
+                    if (key.isWritable()) {
+                        // Socket buffer has room again, resume flushing
+                        key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+                        this.flushSet.add(connection);
+                    }
+                    if (!key.isReadable()) return;
                     try {
                         try (var holder = ObjectPool.PACKET_POOL.hold()) {
                             BinaryBuffer readBuffer = BinaryBuffer.wrap(holder.get());
@@ -92,10 +101,23 @@ public final class Worker extends MinestomThread {
         }
     }
 
+    /**
+     * Marks a connection as having data to flush during the next worker loop.
+     * <p>
+     * Must be called from this thread.
+     *
+     * @param connection the connection to flush
+     */
+    public void scheduleFlush(PlayerSocketConnection connection) {
+        assert Thread.currentThread() == this;
+        this.flushSet.add(connection);
+    }
+
     public void disconnect(PlayerSocketConnection connection, SocketChannel channel) {
         assert !connection.isOnline();
         assert Thread.currentThread() == this;
         this.connectionMap.remove(channel);
+        this.flushSet.remove(connection);
         if (channel.isOpen()) {
             try {
                 connection.flushSync();
@@ -106,6 +128,25 @@ public final class Worker extends MinestomThread {
         }
     }
 
+    private void flushConnections() {
+        if (flushSet.isEmpty()) return;
+        for (PlayerSocketConnection connection : flushSet) {
+            final SelectionKey key = connection.getChannel().keyFor(selector);
+            if (key == null || !key.isValid()) continue;
+            if ((key.interestOps() & SelectionKey.OP_WRITE) != 0)
+                continue; // Already waiting for the socket to be writable
+            try {
+                if (!connection.flushSync()) {
+                    // Kernel buffer is full, wait for the socket to be writable
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                }
+            } catch (Exception e) {
+                connection.disconnect();
+            }
+        }
+        this.flushSet.clear();
+    }
+
     void receiveConnection(SocketChannel channel) throws IOException {
         this.connectionMap.put(channel, new PlayerSocketConnection(this, channel, channel.getRemoteAddress()));
         channel.configureBlocking(false);
@@ -120,6 +161,15 @@ public final class Worker extends MinestomThread {
         this.selector.wakeup();
     }
 
+    /**
+     * Gets the number of connections handled by this worker, used for load balancing.
+     *
+     * @return the connection count
+     */
+    public int connectionCount() {
+        return connectionMap.size();
+    }
+
     public MessagePassingQueue<Runnable> queue() {
         return queue;
     }
@@ -170,6 +170,8 @@ public final class Registry {
         private final boolean air;
         private final boolean solid;
         private final boolean liquid;
+        private final int lightEmission;
+        private final boolean occludes;
         private final String blockEntity;
         private final int blockEntityId;
         private final Supplier<Material> materialSupplier;
@@ -190,6 +192,8 @@ public final class Registry {
             this.air = main.getBoolean("air", false);
             this.solid = main.getBoolean("solid");
             this.liquid = main.getBoolean("liquid", false);
+            this.lightEmission = main.getInt("lightEmission", 0);
+            this.occludes = main.getBoolean("occludes", solid);
             {
                 Properties blockEntity = main.section("blockEntity");
                 if (blockEntity != null) {
@@ -258,6 +262,19 @@ public final class Registry {
             return liquid;
         }
 
+        public int lightEmission() {
+            return lightEmission;
+        }
+
+        /**
+         * Gets if the block stops light propagation.
+         *
+         * @return true if light cannot go through the block
+         */
+        public boolean occludes() {
+            return occludes;
+        }
+
         public boolean isBlockEntity() {
             return blockEntity != null;
         }
@@ -40,6 +40,17 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
         return AcquirableImpl.WAIT_COUNTER_NANO.getAndSet(0);
     }
 
+    /**
+     * Gets the acquisition counters since the server start.
+     *
+     * @return the acquisition statistics
+     * @see TickThread#contendedAcquisitions()
+     */
+    static @NotNull Statistics statistics() {
+        return new Statistics(AcquirableImpl.ACQUISITION_COUNTER.sum(), AcquirableImpl.CONTENDED_COUNTER.sum(),
+                AcquirableImpl.MAX_WAIT_NANO.get());
+    }
+
     /**
      * Creates a new {@link Acquirable} object.
      * <p>
@@ -128,4 +139,14 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
 
     @ApiStatus.Internal
     @NotNull TickThread assignedThread();
+
+    /**
+     * Acquisition counters.
+     *
+     * @param acquisitions the number of threads acquired from another thread
+     * @param contended    the number of acquisitions that had to wait
+     * @param maxWaitNanos the longest time spent waiting for an acquisition
+     */
+    record Statistics(long acquisitions, long contended, long maxWaitNanos) {
+    }
 }
@@ -20,18 +20,17 @@ public class AcquirableCollection<E> implements Collection<Acquirable<E>> {
         final Thread currentThread = Thread.currentThread();
         var threadEntitiesMap = retrieveOptionalThreadMap(acquirableCollection, currentThread, consumer);
 
-        // Acquire all the threads one by one
-        {
-            for (var entry : threadEntitiesMap.entrySet()) {
-                final TickThread tickThread = entry.getKey();
-                final List<E> values = entry.getValue();
-
-                var lock = AcquirableImpl.enter(currentThread, tickThread);
+        if (threadEntitiesMap.isEmpty()) return;
+        // Acquire all the threads at once, each a single time
+        var threads = AcquirableImpl.enter(currentThread, threadEntitiesMap.keySet());
+        try {
+            for (List<E> values : threadEntitiesMap.values()) {
                 for (E value : values) {
                     consumer.accept(value);
                 }
-                AcquirableImpl.leave(lock);
             }
+        } finally {
+            AcquirableImpl.leave(threads);
         }
     }
 
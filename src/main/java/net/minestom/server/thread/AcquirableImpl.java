@@ -4,14 +4,30 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Acquisitions lock the {@link TickThread} owning the element.
+ * <p>
+ * Locks of other tick threads are only held along with a global lock, taken by the outermost acquisition
+ * and reentered by nested ones. Nested acquisitions, in any order, can therefore wait for their target
+ * without ever releasing the elements already held. Acquisitions are consequently serialized:
+ * two threads each holding an element and nesting into the other's cannot both make progress otherwise.
+ * While waiting for the global lock, a tick thread releases its own lock so that its elements can be acquired.
+ */
 final class AcquirableImpl<T> implements Acquirable<T> {
     static final AtomicLong WAIT_COUNTER_NANO = new AtomicLong();
+    static final LongAdder ACQUISITION_COUNTER = new LongAdder();
+    static final LongAdder CONTENDED_COUNTER = new LongAdder();
+    static final AtomicLong MAX_WAIT_NANO = new AtomicLong();
 
     /**
-     * Global lock used for synchronization.
+     * Held by every thread holding the lock of another tick thread.
      */
     private static final ReentrantLock GLOBAL_LOCK = new ReentrantLock();
 
@@ -41,34 +57,83 @@ final class AcquirableImpl<T> implements Acquirable<T> {
     static @Nullable ReentrantLock enter(@NotNull Thread currentThread, @Nullable TickThread elementThread) {
         if (elementThread == null) return null;
         if (currentThread == elementThread) return null;
-        final ReentrantLock currentLock = currentThread instanceof TickThread ? ((TickThread) currentThread).lock() : null;
         final ReentrantLock targetLock = elementThread.lock();
         if (targetLock.isHeldByCurrentThread()) return null;
+        ACQUISITION_COUNTER.increment();
+        long time = lockGlobal(currentThread);
+        if (!targetLock.tryLock()) {
+            if (time == 0) time = System.nanoTime();
+            elementThread.contended();
+            targetLock.lock();
+        }
+        if (time != 0) recordWait(System.nanoTime() - time);
+        return targetLock;
+    }
 
-        // Monitoring
-        final long time = System.nanoTime();
-
-        // Enter the target thread
-        // TODO reduce global lock scope
-        if (currentLock != null) {
-            while (!GLOBAL_LOCK.tryLock()) {
-                currentLock.unlock();
-                currentLock.lock();
+    /**
+     * Locks multiple threads at once, each thread being locked a single time.
+     *
+     * @return the locked threads, to be released using {@link #leave(List)}
+     */
+    static @NotNull List<TickThread> enter(@NotNull Thread currentThread, @NotNull Collection<TickThread> elementThreads) {
+        List<TickThread> targets = new ArrayList<>(elementThreads.size());
+        for (TickThread thread : elementThreads) {
+            if (thread == null || thread == currentThread || thread.lock().isHeldByCurrentThread()) continue;
+            targets.add(thread);
+        }
+        if (targets.isEmpty()) return List.of();
+        ACQUISITION_COUNTER.add(targets.size());
+        long time = lockGlobal(currentThread);
+        for (int i = 0; i < targets.size(); i++) {
+            final TickThread target = targets.get(i);
+            // Released once per thread by #leave(List)
+            if (i != 0) GLOBAL_LOCK.lock();
+            if (!target.lock().tryLock()) {
+                if (time == 0) time = System.nanoTime();
+                target.contended();
+                target.lock().lock();
             }
-        } else {
-            GLOBAL_LOCK.lock();
         }
-        targetLock.lock();
-
-        // Monitoring
-        WAIT_COUNTER_NANO.addAndGet(System.nanoTime() - time);
-        return targetLock;
+        if (time != 0) recordWait(System.nanoTime() - time);
+        return targets;
     }
 
     static void leave(@Nullable ReentrantLock lock) {
-        if (lock != null) {
-            lock.unlock();
-            GLOBAL_LOCK.unlock();
-        }
+        if (lock == null) return;
+        lock.unlock();
+        GLOBAL_LOCK.unlock();
+    }
+
+    static void leave(@NotNull List<TickThread> threads) {
+        for (int i = threads.size() - 1; i >= 0; i--) leave(threads.get(i).lock());
+    }
+
+    /**
+     * Locks the global lock, nested acquisitions reenter it immediately.
+     *
+     * @return the time at which the current thread started waiting, 0 if it did not wait
+     */
+    private static long lockGlobal(Thread currentThread) {
+        if (GLOBAL_LOCK.tryLock()) return 0;
+        final long time = System.nanoTime();
+        // Not held yet, the current thread does not hold any other tick thread lock
+        final ReentrantLock ownLock = currentThread instanceof TickThread tickThread &&
+                tickThread.lock().isHeldByCurrentThread() ? tickThread.lock() : null;
+        final int ownHolds = ownLock != null ? release(ownLock) : 0;
+        GLOBAL_LOCK.lock();
+        for (int i = 0; i < ownHolds; i++) ownLock.lock();
+        return time;
+    }
+
+    private static int release(ReentrantLock lock) {
+        final int holds = lock.getHoldCount();
+        for (int i = 0; i < holds; i++) lock.unlock();
+        return holds;
+    }
+
+    private static void recordWait(long nanos) {
+        CONTENDED_COUNTER.increment();
+        WAIT_COUNTER_NANO.addAndGet(nanos);
+        MAX_WAIT_NANO.accumulateAndGet(nanos, Math::max);
     }
 }
@@ -23,6 +23,10 @@ public final class Acquired<T> {
         this.value = value;
         this.owner = Thread.currentThread();
         this.lock = AcquirableImpl.enter(owner, tickThread);
+        if (lock != null && owner instanceof TickThread ownerThread) {
+            // Cross-thread acquisition, may be avoided by ticking both elements in the same thread
+            ownerThread.interaction(value);
+        }
     }
 
     public @NotNull T get() {
@@ -0,0 +1,66 @@
+package net.minestom.server.thread;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves partitions from the hottest thread to the coldest one.
+ *
+ * @see ThreadProvider#balanced(double, Duration)
+ */
+final class BalancedThreadProvider<T> implements ThreadProvider<T> {
+    // Imbalance below this value is considered noise
+    private static final long MIN_IMBALANCE_NANOS = 50_000;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final double hysteresis;
+    private final long cooldown;
+
+    BalancedThreadProvider(double hysteresis, @NotNull Duration cooldown) {
+        if (hysteresis < 0 || hysteresis >= 1)
+            throw new IllegalArgumentException("Hysteresis must be between 0 and 1");
+        this.hysteresis = hysteresis;
+        this.cooldown = cooldown.toNanos();
+    }
+
+    @Override
+    public int findThread(@NotNull T partition) {
+        // New partitions have no measured cost yet
+        return counter.getAndIncrement();
+    }
+
+    @Override
+    public int findThread(@NotNull T partition, ThreadDispatcher.@NotNull Partition partitionEntry,
+                          @NotNull List<@NotNull TickThread> threads) {
+        final TickThread current = partitionEntry.thread();
+        final int currentIndex = threads.indexOf(current);
+        final long cost = partitionEntry.cost();
+        if (cost == 0) return currentIndex;
+        final long migrationTime = partitionEntry.migrationTime();
+        if (migrationTime != 0 && System.nanoTime() - migrationTime < cooldown) return currentIndex;
+
+        int hottest = 0, coldest = 0;
+        for (int i = 1; i < threads.size(); i++) {
+            final long threadCost = threads.get(i).cost();
+            if (threadCost > threads.get(hottest).cost()) hottest = i;
+            if (threadCost < threads.get(coldest).cost()) coldest = i;
+        }
+        if (hottest != currentIndex) return currentIndex;
+        final long hotCost = threads.get(hottest).cost();
+        final long coldCost = threads.get(coldest).cost();
+        if (hotCost - coldCost < MIN_IMBALANCE_NANOS) return currentIndex;
+        // Only move if the destination ends up clearly below the current maximum,
+        // which also guarantees that the partition will not be moved back
+        final long margin = (long) (hotCost * hysteresis);
+        if (coldCost + cost > hotCost - margin) return currentIndex;
+        return coldest;
+    }
+
+    @Override
+    public @NotNull RefreshType refreshType() {
+        return RefreshType.ALWAYS;
+    }
+}
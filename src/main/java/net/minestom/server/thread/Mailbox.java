@@ -0,0 +1,156 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lock-free alternative to {@link Acquirable} to act on an element owned by another thread.
+ * <p>
+ * Messages can be sent from any thread, and are executed by the thread owning the element
+ * at a defined point of its tick (e.g. at the start of the entity tick), without blocking the sender.
+ * <p>
+ * Futures returned by {@link #ask(Function)} are completed from the owning thread,
+ * use the async variants of {@link CompletableFuture} for expensive continuations.
+ *
+ * @param <T> the type of the owner
+ */
+@ApiStatus.Experimental
+public final class Mailbox<T> {
+    private final T owner;
+    private final MpscUnboundedArrayQueue<Message<T>> queue = new MpscUnboundedArrayQueue<>(16);
+    // Ensures a single consumer, even if the mailbox is closed from another thread
+    private final AtomicBoolean consuming = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private Mailbox(T owner) {
+        this.owner = owner;
+    }
+
+    @ApiStatus.Internal
+    public static <T> @NotNull Mailbox<T> of(@NotNull T owner) {
+        return new Mailbox<>(owner);
+    }
+
+    /**
+     * Sends a message to be executed by the owning thread.
+     * <p>
+     * Ignored if the mailbox is closed.
+     *
+     * @param message the message to execute
+     */
+    public void send(@NotNull Consumer<T> message) {
+        offer(new Message<>() {
+            @Override
+            public void deliver(T owner) {
+                message.accept(owner);
+            }
+
+            @Override
+            public void cancel() {
+                // Empty
+            }
+        });
+    }
+
+    /**
+     * Sends a message to be executed by the owning thread, and retrieves its result.
+     *
+     * @param message the message to execute
+     * @param <R>     the result type
+     * @return a future completed with the message result, or cancelled if the mailbox is closed
+     */
+    public <R> @NotNull CompletableFuture<R> ask(@NotNull Function<T, R> message) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        offer(new Message<>() {
+            @Override
+            public void deliver(T owner) {
+                try {
+                    future.complete(message.apply(owner));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+
+            @Override
+            public void cancel() {
+                future.completeExceptionally(new CancellationException("Mailbox closed"));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Executes all the pending messages.
+     * <p>
+     * Must be called from the thread owning the element.
+     */
+    @ApiStatus.Internal
+    public void drain() {
+        if (queue.isEmpty() || !consuming.compareAndSet(false, true)) return;
+        try {
+            this.queue.drain(message -> {
+                try {
+                    message.deliver(owner);
+                } catch (Throwable t) {
+                    MinecraftServer.getExceptionManager().handleException(t);
+                }
+            });
+        } finally {
+            this.consuming.set(false);
+        }
+        // Messages offered while closing could not be cancelled during the drain
+        if (closed && !queue.isEmpty()) cancelPending();
+    }
+
+    /**
+     * Closes the mailbox, pending and future messages are cancelled.
+     */
+    @ApiStatus.Internal
+    public void close() {
+        this.closed = true;
+        cancelPending();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void offer(Message<T> message) {
+        if (closed) {
+            message.cancel();
+            return;
+        }
+        this.queue.relaxedOffer(message);
+        // The mailbox may have been closed concurrently, after its last cancellation
+        if (closed) cancelPending();
+    }
+
+    private void cancelPending() {
+        // Retry until the queue is empty, the current consumer may have missed the latest messages
+        while (!queue.isEmpty()) {
+            if (!consuming.compareAndSet(false, true)) {
+                Thread.onSpinWait();
+                continue;
+            }
+            try {
+                this.queue.drain(Message::cancel);
+            } finally {
+                this.consuming.set(false);
+            }
+        }
+    }
+
+    private interface Message<T> {
+        void deliver(T owner);
+
+        void cancel();
+    }
+}
@@ -2,6 +2,8 @@ package net.minestom.server.thread;
 
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
@@ -9,37 +11,85 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Used to link chunks into multiple groups.
  * Then executed into a thread pool.
+ * <p>
+ * In region mode, partitions sharing the same region key (e.g. neighbouring chunks) are dispatched
+ * as a single unit. Regions whose elements interact across threads are merged,
+ * and merged regions are split back when their cost becomes too high.
  */
 public final class ThreadDispatcher<P> {
+    // Minimal time between the split of a region and its next merge, prevents flapping
+    private static final long MERGE_COOLDOWN = TimeUnit.SECONDS.toNanos(5);
+
     private final ThreadProvider<P> provider;
     private final List<TickThread> threads;
+    // Null if each partition is its own dispatching unit
+    private final Function<P, ?> regionKey;
+    private final long splitCost;
 
     // Partition -> dispatching context
     // Defines how computation is dispatched to the threads
     private final Map<P, Partition> partitions = new WeakHashMap<>();
-    // Cache to retrieve the threading context from a tickable element
-    private final Map<Tickable, Partition> elements = new WeakHashMap<>();
-    // Queue to update chunks linked thread
-    private final ArrayDeque<P> partitionUpdateQueue = new ArrayDeque<>();
+    // Region key -> dispatching context, only used in region mode
+    private final Map<Object, Partition> regions = new HashMap<>();
+    // Cache to retrieve the partition of a tickable element
+    private final Map<Tickable, P> elements = new WeakHashMap<>();
+    // Queue to update partitions linked thread
+    private final ArrayDeque<Partition> partitionUpdateQueue = new ArrayDeque<>();
 
     // Requests consumed at the end of each tick
     private final MessagePassingQueue<DispatchUpdate<P>> updates = new MpscUnboundedArrayQueue<>(1024);
+    private final TickBarrier barrier = new TickBarrier();
 
-    private ThreadDispatcher(ThreadProvider<P> provider, int threadCount) {
+    private ThreadDispatcher(ThreadProvider<P> provider, int threadCount,
+                             Function<P, ?> regionKey, long splitCost) {
         this.provider = provider;
+        this.regionKey = regionKey;
+        this.splitCost = splitCost;
         TickThread[] threads = new TickThread[threadCount];
         Arrays.setAll(threads, TickThread::new);
         this.threads = List.of(threads);
+        for (TickThread thread : threads) thread.dispatcher = this;
         this.threads.forEach(Thread::start);
     }
 
     public static <P> @NotNull ThreadDispatcher<P> of(@NotNull ThreadProvider<P> provider, int threadCount) {
-        return new ThreadDispatcher<>(provider, threadCount);
+        return new ThreadDispatcher<>(provider, threadCount, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a dispatcher grouping partitions into regions.
+     * <p>
+     * All the partitions with an equal region key are ticked by the same thread,
+     * and {@link ThreadProvider#findThread(Object)} is only called for one partition of each region.
+     *
+     * @param provider    the thread provider
+     * @param threadCount the number of tick threads
+     * @param regionKey   the function returning the region of a partition
+     * @param splitCost   the cost in nanoseconds above which merged regions are split back
+     * @return a new region dispatcher
+     * @see #chunkRegions(int)
+     */
+    public static <P> @NotNull ThreadDispatcher<P> regions(@NotNull ThreadProvider<P> provider, int threadCount,
+                                                           @NotNull Function<P, ?> regionKey, long splitCost) {
+        return new ThreadDispatcher<>(provider, threadCount, regionKey, splitCost);
+    }
+
+    /**
+     * Groups chunks into square regions of the same instance.
+     *
+     * @param size the region size in chunks
+     * @return the region key function
+     */
+    public static @NotNull Function<Chunk, ?> chunkRegions(int size) {
+        if (size <= 0) throw new IllegalArgumentException("Region size must be positive");
+        return chunk -> new ChunkRegion(chunk.getInstance(),
+                Math.floorDiv(chunk.getChunkX(), size), Math.floorDiv(chunk.getChunkZ(), size));
     }
 
     public static <P> @NotNull ThreadDispatcher<P> singleThread() {
@@ -67,18 +117,51 @@ public final class ThreadDispatcher<P> {
                 processUpdatedElement(elementUpdate.tickable(), elementUpdate.partition());
             } else if (update instanceof DispatchUpdate.ElementRemove elementRemove) {
                 processRemovedElement(elementRemove.tickable());
+            } else if (update instanceof DispatchUpdate.ElementInteraction elementInteraction) {
+                processInteraction(elementInteraction.tickable(), elementInteraction.target());
             } else {
                 throw new IllegalStateException("Unknown update type: " + update.getClass().getSimpleName());
             }
         });
-        // Tick all partitions
-        CountDownLatch latch = new CountDownLatch(threads.size());
-        for (TickThread thread : threads) thread.startTick(latch, time);
-        try {
-            latch.await();
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+        // Tick all partitions, threads without entries are not woken up
+        int parties = 0;
+        for (TickThread thread : threads) {
+            if (!thread.entries().isEmpty()) parties++;
+            else thread.resetProfile();
+        }
+        if (parties == 0) return;
+        final TickBarrier barrier = this.barrier;
+        barrier.reset(parties);
+        for (TickThread thread : threads) {
+            if (!thread.entries().isEmpty()) thread.startTick(barrier, time);
+        }
+        barrier.await();
+    }
+
+    /**
+     * Ticks elements which are not part of any partition (e.g. instances) using the tick threads,
+     * and waits for their completion.
+     * <p>
+     * Each element is ticked exactly once, by a single thread. When called before {@link #updateAndAwait(long)},
+     * all the element ticks happen-before the partition ticks.
+     *
+     * @param elements the elements to tick
+     * @param time     the tick time in milliseconds
+     */
+    public synchronized void tickAndAwait(@NotNull List<? extends Tickable> elements, long time) {
+        if (elements.isEmpty()) return;
+        final List<TickThread> threads = this.threads;
+        final int threadCount = Math.min(threads.size(), elements.size());
+        // Stable assignment, an element is ticked by the same thread as long as the list does not change
+        for (int i = 0; i < elements.size(); i++) {
+            threads.get(i % threadCount).detachedElements().add(elements.get(i));
         }
+        final TickBarrier barrier = this.barrier;
+        barrier.reset(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            threads.get(i).startDetachedTick(barrier, time);
+        }
+        barrier.await();
     }
 
     /**
@@ -88,6 +171,7 @@ public final class ThreadDispatcher<P> {
      * @param nanoTimeout max time in nanoseconds to update partitions
      */
     public void refreshThreads(long nanoTimeout) {
+        if (regionKey != null) splitRegions();
         switch (provider.refreshType()) {
             case NEVER -> {
                 // Do nothing
@@ -96,19 +180,35 @@ public final class ThreadDispatcher<P> {
                 final long currentTime = System.nanoTime();
                 int counter = partitionUpdateQueue.size();
                 while (true) {
-                    final P partition = partitionUpdateQueue.pollFirst();
-                    if (partition == null) break;
+                    final Partition partitionEntry = partitionUpdateQueue.pollFirst();
+                    if (partitionEntry == null) break;
+                    final Iterator<Object> iterator = partitionEntry.partitions.iterator();
+                    if (!iterator.hasNext()) {
+                        // All partitions have been collected without being deleted
+                        removePartitionEntry(partitionEntry);
+                        if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) break;
+                        continue;
+                    }
                     // Update chunk's thread
-                    Partition partitionEntry = partitions.get(partition);
-                    assert partitionEntry != null;
+                    final P partition = castPartition(iterator.next());
                     final TickThread previous = partitionEntry.thread;
-                    final TickThread next = retrieveThread(partition);
+                    final TickThread next = retrieveThread(partition, partitionEntry);
                     if (next != previous) {
                         partitionEntry.thread = next;
+                        partitionEntry.migrationTime = System.nanoTime();
                         previous.entries().remove(partitionEntry);
                         next.entries().add(partitionEntry);
+                        // Keep the estimations up to date for the next decisions
+                        final long cost = partitionEntry.cost;
+                        previous.cost(previous.cost() - cost);
+                        next.cost(next.cost() + cost);
+                        for (Tickable element : partitionEntry.elements) {
+                            if (element instanceof Entity entity) {
+                                ((AcquirableImpl<?>) entity.getAcquirable()).updateThread(next);
+                            }
+                        }
                     }
-                    this.partitionUpdateQueue.addLast(partition);
+                    this.partitionUpdateQueue.addLast(partitionEntry);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
@@ -137,6 +237,15 @@ public final class ThreadDispatcher<P> {
         signalUpdate(new DispatchUpdate.ElementRemove<>(tickable));
     }
 
+    /**
+     * Signals that {@code tickable} acquired {@code target} from another thread.
+     * <p>
+     * Used in region mode to merge the regions of both elements.
+     */
+    void interaction(@NotNull Tickable tickable, @NotNull Tickable target) {
+        if (regionKey != null) signalUpdate(new DispatchUpdate.ElementInteraction<>(tickable, target));
+    }
+
     /**
      * Shutdowns all the {@link TickThread tick threads}.
      * <p>
@@ -152,63 +261,204 @@ public final class ThreadDispatcher<P> {
         return threads.get(index);
     }
 
+    private TickThread retrieveThread(P partition, Partition partitionEntry) {
+        final int threadId = provider.findThread(partition, partitionEntry, threads);
+        final int index = Math.abs(threadId) % threads.size();
+        return threads.get(index);
+    }
+
     private void signalUpdate(@NotNull DispatchUpdate<P> update) {
         this.updates.relaxedOffer(update);
     }
 
     private void processLoadedPartition(P partition) {
         if (partitions.containsKey(partition)) return;
-        final TickThread thread = retrieveThread(partition);
-        final Partition partitionEntry = new Partition(thread);
-        thread.entries().add(partitionEntry);
+        final Object region = regionKey != null ? regionKey.apply(partition) : null;
+        Partition partitionEntry = region != null ? regions.get(region) : null;
+        if (partitionEntry == null) {
+            final TickThread thread = retrieveThread(partition);
+            partitionEntry = new Partition(thread);
+            thread.entries().add(partitionEntry);
+            this.partitionUpdateQueue.add(partitionEntry);
+            if (region != null) {
+                partitionEntry.regions.add(region);
+                this.regions.put(region, partitionEntry);
+            }
+        }
+        partitionEntry.partitions.add(partition);
         this.partitions.put(partition, partitionEntry);
-        this.partitionUpdateQueue.add(partition);
         if (partition instanceof Tickable tickable) {
             processUpdatedElement(tickable, partition);
         }
     }
 
     private void processUnloadedPartition(P partition) {
-        final Partition partitionEntry = partitions.remove(partition);
-        if (partitionEntry != null) {
-            TickThread thread = partitionEntry.thread;
-            thread.entries().remove(partitionEntry);
-        }
-        this.partitionUpdateQueue.remove(partition);
         if (partition instanceof Tickable tickable) {
             processRemovedElement(tickable);
         }
+        final Partition partitionEntry = partitions.remove(partition);
+        if (partitionEntry == null) return;
+        partitionEntry.partitions.remove(partition);
+        if (partitionEntry.partitions.isEmpty()) {
+            removePartitionEntry(partitionEntry);
+        } else {
+            // Other partitions of the region are still ticked
+            partitionEntry.elements.removeIf(element -> elements.get(element) == partition);
+            final Object region = regionKey.apply(partition);
+            if (partitionEntry.partitions.stream().noneMatch(p -> region.equals(regionKey.apply(castPartition(p))))) {
+                partitionEntry.regions.remove(region);
+                this.regions.remove(region);
+            }
+        }
+    }
+
+    private void removePartitionEntry(Partition partitionEntry) {
+        TickThread thread = partitionEntry.thread;
+        thread.entries().remove(partitionEntry);
+        this.partitionUpdateQueue.remove(partitionEntry);
+        for (Object region : partitionEntry.regions) this.regions.remove(region);
     }
 
     private void processRemovedElement(Tickable tickable) {
-        Partition partition = elements.get(tickable);
-        if (partition != null) {
-            partition.elements.remove(tickable);
+        final P partition = elements.remove(tickable);
+        final Partition partitionEntry = partition != null ? partitions.get(partition) : null;
+        if (partitionEntry != null) {
+            partitionEntry.elements.remove(tickable);
         }
     }
 
     private void processUpdatedElement(Tickable tickable, P partition) {
-        Partition partitionEntry;
-
-        partitionEntry = elements.get(tickable);
+        final P previous = elements.get(tickable);
+        final Partition previousEntry = previous != null ? partitions.get(previous) : null;
+        final Partition partitionEntry = partitions.get(partition);
+        if (partitionEntry == null) {
+            if (previousEntry != null) previousEntry.elements.remove(tickable);
+            this.elements.remove(tickable);
+            return;
+        }
+        this.elements.put(tickable, partition);
+        if (previousEntry == partitionEntry) return; // Same dispatching unit (e.g. same region)
         // Remove from previous list
-        if (partitionEntry != null) {
-            partitionEntry.elements.remove(tickable);
+        if (previousEntry != null) {
+            previousEntry.elements.remove(tickable);
         }
         // Add to new list
-        partitionEntry = partitions.get(partition);
-        if (partitionEntry != null) {
-            this.elements.put(tickable, partitionEntry);
-            partitionEntry.elements.add(tickable);
-            if (tickable instanceof Entity entity) { // TODO support other types
-                ((AcquirableImpl<?>) entity.getAcquirable()).updateThread(partitionEntry.thread());
+        partitionEntry.elements.add(tickable);
+        if (tickable instanceof Entity entity) { // TODO support other types
+            ((AcquirableImpl<?>) entity.getAcquirable()).updateThread(partitionEntry.thread());
+        }
+    }
+
+    private void processInteraction(Tickable tickable, Tickable target) {
+        final P partition = elements.get(tickable);
+        final P targetPartition = elements.get(target);
+        if (partition == null || targetPartition == null) return;
+        final Partition first = partitions.get(partition);
+        final Partition second = partitions.get(targetPartition);
+        if (first == null || second == null || first == second) return;
+        final long time = System.nanoTime();
+        if (recentlySplit(first, time) || recentlySplit(second, time)) return;
+        if (first.cost + second.cost > splitCost) return; // Would be split right away
+        // Merge into the most expensive region, which is therefore not moved
+        if (first.cost >= second.cost) mergeRegions(first, second);
+        else mergeRegions(second, first);
+    }
+
+    private void mergeRegions(Partition target, Partition source) {
+        for (Object partition : source.partitions) {
+            this.partitions.put(castPartition(partition), target);
+        }
+        target.partitions.addAll(source.partitions);
+        for (Object region : source.regions) {
+            this.regions.put(region, target);
+        }
+        target.regions.addAll(source.regions);
+        final TickThread thread = target.thread;
+        for (Tickable element : source.elements) {
+            target.elements.add(element);
+            if (element instanceof Entity entity) {
+                ((AcquirableImpl<?>) entity.getAcquirable()).updateThread(thread);
+            }
+        }
+        source.thread.entries().remove(source);
+        source.thread.cost(source.thread.cost() - source.cost);
+        thread.cost(thread.cost() + source.cost);
+        target.cost += source.cost;
+        this.partitionUpdateQueue.remove(source);
+    }
+
+    private void splitRegions() {
+        List<Partition> expensive = null;
+        for (TickThread thread : threads) {
+            for (Partition partitionEntry : thread.entries()) {
+                if (partitionEntry.regions.size() > 1 && partitionEntry.cost > splitCost) {
+                    if (expensive == null) expensive = new ArrayList<>();
+                    expensive.add(partitionEntry);
+                }
             }
         }
+        if (expensive != null) expensive.forEach(this::splitRegion);
+    }
+
+    private void splitRegion(Partition partitionEntry) {
+        final TickThread thread = partitionEntry.thread;
+        final long time = System.nanoTime();
+        final int regionCount = partitionEntry.regions.size();
+        final long cost = partitionEntry.cost / regionCount;
+        // The original entry keeps its first region, others get a new entry on the same thread
+        final Iterator<Object> iterator = partitionEntry.regions.iterator();
+        iterator.next();
+        while (iterator.hasNext()) {
+            final Object region = iterator.next();
+            iterator.remove();
+            Partition split = new Partition(thread);
+            split.regions.add(region);
+            split.cost = cost;
+            split.splitTime = time;
+            thread.entries().add(split);
+            this.partitionUpdateQueue.add(split);
+            this.regions.put(region, split);
+        }
+        partitionEntry.cost = cost;
+        partitionEntry.splitTime = time;
+        // Move partitions and their elements to their new entry
+        partitionEntry.partitions.removeIf(p -> {
+            final P partition = castPartition(p);
+            final Partition split = regions.get(regionKey.apply(partition));
+            if (split == partitionEntry) return false;
+            split.partitions.add(partition);
+            this.partitions.put(partition, split);
+            return true;
+        });
+        partitionEntry.elements.removeIf(element -> {
+            final P partition = elements.get(element);
+            final Partition split = partition != null ? partitions.get(partition) : null;
+            if (split == null || split == partitionEntry) return false;
+            split.elements.add(element);
+            return true;
+        });
+    }
+
+    private static boolean recentlySplit(Partition partitionEntry, long time) {
+        return partitionEntry.splitTime != 0 && time - partitionEntry.splitTime < MERGE_COOLDOWN;
+    }
+
+    @SuppressWarnings("unchecked")
+    private P castPartition(Object partition) {
+        return (P) partition;
     }
 
     public static final class Partition {
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
+        // Dispatched partitions, more than one in region mode
+        // Weak like the dispatcher map, partitions collected without being deleted must not be retained
+        private final Set<Object> partitions = Collections.newSetFromMap(new WeakHashMap<>());
+        // Region keys covered by this entry, empty outside of region mode
+        private final Set<Object> regions = new LinkedHashSet<>();
+        private long cost;
+        private long migrationTime;
+        private long splitTime;
 
         private Partition(TickThread thread) {
             this.thread = thread;
@@ -221,12 +471,35 @@ public final class ThreadDispatcher<P> {
         public @NotNull List<Tickable> elements() {
             return elements;
         }
+
+        /**
+         * Gets the smoothed time in nanoseconds spent ticking the elements of this partition.
+         *
+         * @return the partition cost in nanoseconds
+         */
+        public long cost() {
+            return cost;
+        }
+
+        /**
+         * Gets the {@link System#nanoTime()} at which this partition last changed thread.
+         *
+         * @return the last migration time, 0 if the partition never moved
+         */
+        public long migrationTime() {
+            return migrationTime;
+        }
+
+        void updateCost(long nanos) {
+            // Exponential moving average, smooths out single slow ticks
+            this.cost = cost + ((nanos - cost) >> 2);
+        }
     }
 
     @ApiStatus.Internal
     sealed interface DispatchUpdate<P> permits
             DispatchUpdate.PartitionLoad, DispatchUpdate.PartitionUnload,
-            DispatchUpdate.ElementUpdate, DispatchUpdate.ElementRemove {
+            DispatchUpdate.ElementUpdate, DispatchUpdate.ElementRemove, DispatchUpdate.ElementInteraction {
         record PartitionLoad<P>(@NotNull P partition) implements DispatchUpdate<P> {
         }
 
@@ -238,5 +511,11 @@ public final class ThreadDispatcher<P> {
 
         record ElementRemove<P>(@NotNull Tickable tickable) implements DispatchUpdate<P> {
         }
+
+        record ElementInteraction<P>(@NotNull Tickable tickable, @NotNull Tickable target) implements DispatchUpdate<P> {
+        }
+    }
+
+    private record ChunkRegion(Instance instance, int x, int z) {
     }
 }
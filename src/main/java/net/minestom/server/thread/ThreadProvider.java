@@ -2,7 +2,10 @@ package net.minestom.server.thread;
 
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @FunctionalInterface
@@ -19,6 +22,32 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Creates a provider moving partitions from the most loaded thread to the least loaded one,
+     * based on the measured {@link ThreadDispatcher.Partition#cost()}.
+     * <p>
+     * A partition of the hottest thread is only moved if the coldest thread, with the partition added,
+     * stays at least 10% below the current cost of the hottest thread, and at most once every 5 seconds.
+     *
+     * @return a new load balancing provider
+     */
+    static <T> @NotNull ThreadProvider<T> balanced() {
+        return balanced(0.1, Duration.ofSeconds(5));
+    }
+
+    /**
+     * Creates a provider moving partitions from the most loaded thread to the least loaded one,
+     * based on the measured {@link ThreadDispatcher.Partition#cost()}.
+     *
+     * @param hysteresis the margin, as a fraction of the hottest thread cost, by which the coldest thread
+     *                   must stay below the hottest one once the partition is added to it
+     * @param cooldown   the minimal time between two moves of the same partition
+     * @return a new load balancing provider
+     */
+    static <T> @NotNull ThreadProvider<T> balanced(double hysteresis, @NotNull Duration cooldown) {
+        return new BalancedThreadProvider<>(hysteresis, cooldown);
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -26,6 +55,21 @@ public interface ThreadProvider<T> {
      */
     int findThread(@NotNull T partition);
 
+    /**
+     * Finds the new thread of an already dispatched partition.
+     * <p>
+     * Only called when {@link #refreshType()} is {@link RefreshType#ALWAYS}, defaults to {@link #findThread(Object)}.
+     *
+     * @param partition      the partition
+     * @param partitionEntry the dispatching context of the partition, including its current thread and cost
+     * @param threads        all the threads of the dispatcher
+     * @return the thread index
+     */
+    default int findThread(@NotNull T partition, @NotNull ThreadDispatcher.Partition partitionEntry,
+                           @NotNull @Unmodifiable List<@NotNull TickThread> threads) {
+        return findThread(partition);
+    }
+
     /**
      * Defines how often chunks thread should be updated.
      *
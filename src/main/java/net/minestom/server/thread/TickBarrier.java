@@ -0,0 +1,47 @@
+package net.minestom.server.thread;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reusable barrier used by {@link ThreadDispatcher} to wait for the {@link TickThread tick threads}.
+ * <p>
+ * Waiting threads busy-spin for {@link #SPIN_NANOS} before parking,
+ * avoiding the wake-up latency for short ticks.
+ */
+final class TickBarrier {
+    static final long SPIN_NANOS = Long.getLong("minestom.tick-spin-nanos", 20_000);
+
+    private final AtomicInteger remaining = new AtomicInteger();
+    private volatile Thread waiter;
+
+    /**
+     * Prepares the barrier for a new tick, must be called before the threads are started.
+     *
+     * @param parties the number of threads to wait for
+     */
+    void reset(int parties) {
+        this.remaining.set(parties);
+    }
+
+    void arrive() {
+        if (remaining.decrementAndGet() == 0) {
+            final Thread waiter = this.waiter;
+            if (waiter != null) LockSupport.unpark(waiter);
+        }
+    }
+
+    void await() {
+        final long start = System.nanoTime();
+        while (remaining.get() != 0) {
+            if (System.nanoTime() - start < SPIN_NANOS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            this.waiter = Thread.currentThread();
+            // Check again, the last thread may have arrived before seeing the waiter
+            if (remaining.get() != 0) LockSupport.park(this);
+            this.waiter = null;
+        }
+    }
+}
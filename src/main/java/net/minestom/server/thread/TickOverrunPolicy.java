@@ -0,0 +1,88 @@
+package net.minestom.server.thread;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Decides when the next tick starts, especially after a tick took longer than the tick length.
+ *
+ * @see net.minestom.server.MinecraftServer#setTickOverrunPolicy(TickOverrunPolicy)
+ */
+@FunctionalInterface
+@ApiStatus.Experimental
+public interface TickOverrunPolicy {
+    /**
+     * The next tick starts one tick length after the start of the previous one,
+     * a slow tick shifts the whole schedule.
+     *
+     * @return the delay policy
+     */
+    static @NotNull TickOverrunPolicy delay() {
+        return (scheduledStart, tickStart, tickEnd, tickLength) -> tickStart + tickLength;
+    }
+
+    /**
+     * Ticks are scheduled at a fixed rate, late ticks are caught up by running the next ones back-to-back.
+     * <p>
+     * If the server is more than {@code maxCatchUpTicks} ticks behind, the older ticks are dropped.
+     *
+     * @param maxCatchUpTicks the maximum number of ticks to catch up
+     * @return the fixed-rate policy
+     */
+    static @NotNull TickOverrunPolicy fixedRate(int maxCatchUpTicks) {
+        if (maxCatchUpTicks < 0) throw new IllegalArgumentException("Catch-up ticks cannot be negative");
+        return (scheduledStart, tickStart, tickEnd, tickLength) ->
+                Math.max(scheduledStart + tickLength, tickEnd - maxCatchUpTicks * tickLength);
+    }
+
+    /**
+     * Ticks are scheduled at a fixed rate, late ticks are skipped and the next tick starts at the next boundary.
+     *
+     * @return the skip policy
+     */
+    static @NotNull TickOverrunPolicy skip() {
+        return (scheduledStart, tickStart, tickEnd, tickLength) -> {
+            final long next = scheduledStart + tickLength;
+            if (next >= tickEnd) return next;
+            final long missed = (tickEnd - next + tickLength - 1) / tickLength;
+            return next + missed * tickLength;
+        };
+    }
+
+    /**
+     * The tick length follows the average tick duration, between the configured tick length and {@code maxTickLength}.
+     * Slows down the server under sustained load instead of running late ticks.
+     *
+     * @param maxTickLength the maximum tick length
+     * @return a new adaptive policy
+     */
+    static @NotNull TickOverrunPolicy adaptive(@NotNull Duration maxTickLength) {
+        final long max = maxTickLength.toNanos();
+        return new TickOverrunPolicy() {
+            private long average;
+
+            @Override
+            public long nextTickStart(long scheduledStart, long tickStart, long tickEnd, long tickLength) {
+                // Exponential moving average, a single slow tick only slightly affects the length
+                this.average += (tickEnd - tickStart - average) >> 3;
+                final long length = Math.min(Math.max(average, tickLength), Math.max(max, tickLength));
+                return tickStart + length;
+            }
+        };
+    }
+
+    /**
+     * Computes the start of the next tick.
+     * <p>
+     * Only called from the tick scheduler thread. All times come from {@link System#nanoTime()}.
+     *
+     * @param scheduledStart the time at which the tick was supposed to start
+     * @param tickStart      the time at which the tick actually started
+     * @param tickEnd        the time at which the tick ended
+     * @param tickLength     the configured tick length in nanoseconds
+     * @return the time at which the next tick should start, may be in the past to run it immediately
+     */
+    long nextTickStart(long scheduledStart, long tickStart, long tickEnd, long tickLength);
+}
@@ -2,6 +2,9 @@ package net.minestom.server.thread;
 
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerProcess;
+import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.server.ServerTickOverrunEvent;
+import net.minestom.server.monitoring.TickMonitor;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.util.concurrent.locks.LockSupport;
@@ -18,6 +21,7 @@ public final class TickSchedulerThread extends MinestomThread {
     @Override
     public void run() {
         final long tickNs = (long) (MinecraftServer.TICK_MS * 1e6);
+        long scheduledStart = System.nanoTime();
         while (serverProcess.isAlive()) {
             final long tickStart = System.nanoTime();
             try {
@@ -25,9 +29,30 @@ public final class TickSchedulerThread extends MinestomThread {
             } catch (Exception e) {
                 serverProcess.exception().handleException(e);
             }
-            final long wait = tickStart + tickNs - System.nanoTime();
-            assert wait <= tickNs : "Wait time is too long: " + (wait / 1e6) + "ms";
-            LockSupport.parkNanos(wait);
+            final long tickEnd = System.nanoTime();
+            final long nextStart = MinecraftServer.getTickOverrunPolicy()
+                    .nextTickStart(scheduledStart, tickStart, tickEnd, tickNs);
+            final long duration = tickEnd - tickStart;
+            if (duration > tickNs) {
+                final int skippedTicks = (int) Math.max(0, (nextStart - scheduledStart) / tickNs - 1);
+                overrun(duration - tickNs, skippedTicks);
+            }
+            scheduledStart = nextStart;
+            // Park until the next tick, parkNanos may return early
+            long wait;
+            while ((wait = nextStart - System.nanoTime()) > 0 && serverProcess.isAlive()) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+
+    private void overrun(long overrunNanos, int skippedTicks) {
+        final TickMonitor monitor = serverProcess.ticker().lastMonitor();
+        if (monitor == null) return;
+        try {
+            EventDispatcher.call(new ServerTickOverrunEvent(monitor, overrunNanos / 1e6D, skippedTicks));
+        } catch (Exception e) {
+            serverProcess.exception().handleException(e);
         }
     }
 }
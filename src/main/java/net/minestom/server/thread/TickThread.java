@@ -3,14 +3,18 @@ package net.minestom.server.thread;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.utils.PropertyUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -21,12 +25,34 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 @ApiStatus.Internal
 public final class TickThread extends MinestomThread {
+    /**
+     * Measures the tick time of each entity, aggregated by {@link EntityType}.
+     * Adds two {@link System#nanoTime()} calls per entity tick.
+     */
+    static final boolean PROFILE_ENTITY_TYPES = PropertyUtils.getBoolean("minestom.profile-entity-types", false);
+
+    private final LongAdder contention = new LongAdder();
     private final ReentrantLock lock = new ReentrantLock();
     private volatile boolean stop;
 
-    private CountDownLatch latch;
+    private TickBarrier barrier;
     private long tickTime;
+    // Tick requested by the dispatcher, and last tick executed by this thread
+    private volatile long requestedTick;
+    private long completedTick;
+    private volatile boolean waiting;
+    private long cost;
+    // Element being ticked, used to detect interactions between regions
+    private Tickable currentElement;
+    ThreadDispatcher<?> dispatcher;
     private final List<ThreadDispatcher.Partition> entries = new ArrayList<>();
+    // Elements ticked outside of partitions, see ThreadDispatcher#tickAndAwait
+    private final List<Tickable> detachedElements = new ArrayList<>();
+    private boolean detached;
+    // Profiling of the last partition tick, in nanoseconds
+    private long busyTime;
+    private long packetTime;
+    private final long[] entityTypeTimes = PROFILE_ENTITY_TYPES ? new long[EntityType.values().size()] : null;
 
     public TickThread(int number) {
         super(MinecraftServer.THREAD_NAME_TICK + "-" + number);
@@ -34,59 +60,222 @@ public final class TickThread extends MinestomThread {
 
     @Override
     public void run() {
-        LockSupport.park(this);
-        while (!stop) {
+        while (awaitTick()) {
             this.lock.lock();
             try {
-                tick();
+                if (detached) tickDetached();
+                else tick();
             } catch (Exception e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
             this.lock.unlock();
             // #acquire() callbacks
-            this.latch.countDown();
-            LockSupport.park(this);
+            this.barrier.arrive();
+        }
+    }
+
+    /**
+     * Waits for the next tick, spinning for {@link TickBarrier#SPIN_NANOS} before parking.
+     *
+     * @return false if the thread has been shutdown with no tick pending
+     */
+    private boolean awaitTick() {
+        final long start = System.nanoTime();
+        while (requestedTick == completedTick) {
+            if (stop) return false;
+            if (System.nanoTime() - start < TickBarrier.SPIN_NANOS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            this.waiting = true;
+            // Check again, the dispatcher may have requested the tick before seeing the flag
+            if (requestedTick == completedTick && !stop) LockSupport.park(this);
+            this.waiting = false;
         }
+        // Always execute a requested tick, the dispatcher is waiting for it
+        this.completedTick = requestedTick;
+        return true;
     }
 
     private void tick() {
         final ReentrantLock lock = this.lock;
         final long tickTime = this.tickTime;
+        final long[] entityTypeTimes = this.entityTypeTimes;
+        final long tickStart = System.nanoTime();
+        resetProfile();
+        long cost = 0;
         for (ThreadDispatcher.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
+            if (elements.isEmpty()) {
+                entry.updateCost(0);
+                continue;
+            }
+            final long start = System.nanoTime();
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
                     lock.unlock();
                     // #acquire() callbacks should be called here
                     lock.lock();
                 }
+                this.currentElement = element;
+                final long elementStart = entityTypeTimes != null ? System.nanoTime() : 0;
                 try {
                     element.tick(tickTime);
                 } catch (Throwable e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
+                if (entityTypeTimes != null && element instanceof Entity entity) {
+                    entityTypeTimes[entity.getEntityType().id()] += System.nanoTime() - elementStart;
+                }
             }
+            entry.updateCost(System.nanoTime() - start);
+            cost += entry.cost();
         }
+        this.cost = cost;
+        this.currentElement = null;
+        this.busyTime = System.nanoTime() - tickStart;
     }
 
-    void startTick(CountDownLatch latch, long tickTime) {
-        if (entries.isEmpty()) {
-            // Nothing to tick
-            latch.countDown();
-            return;
+    private void tickDetached() {
+        final ReentrantLock lock = this.lock;
+        final long tickTime = this.tickTime;
+        final List<Tickable> elements = this.detachedElements;
+        for (Tickable element : elements) {
+            if (lock.hasQueuedThreads()) {
+                lock.unlock();
+                // #acquire() callbacks should be called here
+                lock.lock();
+            }
+            try {
+                element.tick(tickTime);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
         }
-        this.latch = latch;
+        elements.clear();
+    }
+
+    /**
+     * Requests a tick, {@link TickBarrier#arrive()} is called once done.
+     * <p>
+     * Must only be called if the thread has entries to tick.
+     */
+    void startTick(TickBarrier barrier, long tickTime) {
+        this.detached = false;
+        signalTick(barrier, tickTime);
+    }
+
+    /**
+     * Requests a tick of the elements previously added to {@link #detachedElements()}.
+     */
+    void startDetachedTick(TickBarrier barrier, long tickTime) {
+        this.detached = true;
+        signalTick(barrier, tickTime);
+    }
+
+    List<Tickable> detachedElements() {
+        return detachedElements;
+    }
+
+    private void signalTick(TickBarrier barrier, long tickTime) {
+        this.barrier = barrier;
         this.tickTime = tickTime;
-        this.stop = false;
-        LockSupport.unpark(this);
+        this.requestedTick++; // Publishes the fields above
+        if (waiting) LockSupport.unpark(this);
+    }
+
+    /**
+     * Gets the estimated time in nanoseconds needed to tick all the partitions of this thread,
+     * based on {@link ThreadDispatcher.Partition#cost()}.
+     * <p>
+     * Updated at the end of each tick, and when partitions are moved between threads.
+     *
+     * @return the estimated tick cost in nanoseconds
+     */
+    public long cost() {
+        return cost;
+    }
+
+    void cost(long cost) {
+        this.cost = cost;
+    }
+
+    /**
+     * Gets the time spent ticking the partitions during the last dispatcher tick.
+     * <p>
+     * Should only be read once {@link ThreadDispatcher#updateAndAwait(long)} returned.
+     *
+     * @return the busy time in nanoseconds, 0 if the thread had nothing to tick
+     */
+    public long busyTime() {
+        return busyTime;
+    }
+
+    /**
+     * Gets the time spent processing player packets during the last dispatcher tick.
+     *
+     * @return the packet processing time in nanoseconds
+     * @see #addPacketTime(long)
+     */
+    public long packetTime() {
+        return packetTime;
+    }
+
+    /**
+     * Gets the time spent ticking entities during the last dispatcher tick, indexed by {@link EntityType#id()}.
+     * <p>
+     * The returned array is reused by the thread and must not be modified.
+     *
+     * @return the entity tick times in nanoseconds, null if {@code minestom.profile-entity-types} is disabled
+     */
+    public long @Nullable [] entityTypeTimes() {
+        return entityTypeTimes;
+    }
+
+    void resetProfile() {
+        this.busyTime = 0;
+        this.packetTime = 0;
+        if (entityTypeTimes != null) Arrays.fill(entityTypeTimes, 0);
+    }
+
+    /**
+     * Adds to the packet processing time of the current tick thread, does nothing if called from another thread.
+     *
+     * @param nanos the time spent processing packets
+     */
+    public static void addPacketTime(long nanos) {
+        if (Thread.currentThread() instanceof TickThread tickThread) tickThread.packetTime += nanos;
+    }
+
+    /**
+     * Called when the element currently ticked acquired an element owned by another thread.
+     */
+    void interaction(@NotNull Object target) {
+        final ThreadDispatcher<?> dispatcher = this.dispatcher;
+        final Tickable element = this.currentElement;
+        if (dispatcher != null && element != null && target instanceof Tickable tickable && tickable != element) {
+            dispatcher.interaction(element, tickable);
+        }
     }
 
     public Collection<ThreadDispatcher.Partition> entries() {
         return entries;
     }
 
+    /**
+     * Gets the number of acquisitions that had to wait for this thread.
+     *
+     * @return the contended acquisition count
+     */
+    public long contendedAcquisitions() {
+        return contention.sum();
+    }
+
+    void contended() {
+        this.contention.increment();
+    }
+
     /**
      * Gets the lock used to ensure the safety of entity acquisition.
      *
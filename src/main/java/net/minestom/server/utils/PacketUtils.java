@@ -18,6 +18,7 @@ import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.PacketCompression;
 import net.minestom.server.network.packet.server.*;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
@@ -33,8 +34,6 @@ import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.zip.DataFormatException;
-import java.util.zip.Deflater;
-import java.util.zip.Inflater;
 
 /**
  * Utils class for packets. Including writing a {@link ServerPacket} into a {@link ByteBuffer}
@@ -45,8 +44,6 @@ import java.util.zip.Inflater;
  * Be sure to check the implementation code.
  */
 public final class PacketUtils {
-    private static final ThreadLocal<Deflater> LOCAL_DEFLATER = ThreadLocal.withInitial(Deflater::new);
-
     public static final boolean GROUPED_PACKET = PropertyUtils.getBoolean("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = PropertyUtils.getBoolean("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = PropertyUtils.getBoolean("minestom.viewable-packet", true);
@@ -217,10 +214,8 @@ public final class PacketUtils {
                         // Decompress to content buffer
                         content = BinaryBuffer.wrap(pool);
                         decompressedSize = dataLength;
-                        Inflater inflater = new Inflater(); // TODO: Pool?
-                        inflater.setInput(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength));
-                        inflater.inflate(content.asByteBuffer(0, dataLength));
-                        inflater.reset();
+                        PacketCompression.inflate(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength),
+                                content.asByteBuffer(0, dataLength));
                     }
                 }
                 // Slice packet
@@ -255,6 +250,25 @@ public final class PacketUtils {
                                          @NotNull NetworkBuffer.Writer writer,
                                          int compressionThreshold) {
         NetworkBuffer networkBuffer = new NetworkBuffer(buffer, false);
+        if (writer instanceof NetworkBuffer.SizedWriter sizedWriter) {
+            // Exact size is known, write the length prefix directly
+            final int packetSize = Utils.getVarIntSize(id) + sizedWriter.sizeOf();
+            if (compressionThreshold <= 0 || packetSize < compressionThreshold) {
+                if (compressionThreshold <= 0) {
+                    networkBuffer.writeVarInt(packetSize);
+                } else {
+                    // Data length of 0 means uncompressed
+                    networkBuffer.writeVarInt(packetSize + 1);
+                    networkBuffer.writeByte((byte) 0);
+                }
+                final int contentStart = networkBuffer.writeIndex();
+                networkBuffer.writeVarInt(id);
+                networkBuffer.write(writer);
+                assert networkBuffer.writeIndex() - contentStart == packetSize : "Invalid size for " + writer;
+                buffer.position(networkBuffer.writeIndex());
+                return;
+            }
+        }
         if (compressionThreshold <= 0) {
             // Uncompressed format https://wiki.vg/Protocol#Without_compression
             final int lengthIndex = networkBuffer.skipWrite(3);
@@ -278,13 +292,10 @@ public final class PacketUtils {
             // Packet large enough, compress it
             try (var hold = ObjectPool.PACKET_POOL.hold()) {
                 final ByteBuffer input = hold.get().put(0, buffer, contentStart, packetSize);
-                Deflater deflater = LOCAL_DEFLATER.get();
-                deflater.setInput(input.limit(packetSize));
-                deflater.finish();
-                deflater.deflate(buffer.position(contentStart));
-                deflater.reset();
+                final int compressedSize = PacketCompression.deflate(writer.getClass(),
+                        input.limit(packetSize), buffer.position(contentStart));
 
-                networkBuffer.skipWrite(buffer.position() - contentStart);
+                networkBuffer.skipWrite(compressedSize);
             }
         }
         // Packet header (Packet + Data Length)
@@ -7,6 +7,7 @@ import org.jglrxavpok.hephaistos.nbt.NBTWriter;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -162,6 +163,37 @@ public final class BinaryBuffer {
         return writeBuffer.limit() == writeBuffer.position();
     }
 
+    /**
+     * Writes the readable bytes of multiple buffers using a single gathering write.
+     * <p>
+     * Partial writes are supported, the reader offset of each buffer is advanced by the amount of bytes written from it.
+     *
+     * @param channel the channel to write to
+     * @param buffers the buffers to write, in order
+     * @return true if every buffer has been fully written
+     * @throws IOException if the channel reached end-of-stream or failed
+     */
+    public static boolean writeChannel(GatheringByteChannel channel, BinaryBuffer... buffers) throws IOException {
+        final int length = buffers.length;
+        ByteBuffer[] writeBuffers = new ByteBuffer[length];
+        for (int i = 0; i < length; i++) {
+            final BinaryBuffer buffer = buffers[i];
+            writeBuffers[i] = buffer.nioBuffer.slice(buffer.readerOffset, buffer.writerOffset - buffer.readerOffset);
+        }
+        final long count = channel.write(writeBuffers);
+        if (count == -1) {
+            // EOS
+            throw new IOException("Disconnected");
+        }
+        boolean complete = true;
+        for (int i = 0; i < length; i++) {
+            final ByteBuffer writeBuffer = writeBuffers[i];
+            buffers[i].readerOffset += writeBuffer.position();
+            if (writeBuffer.hasRemaining()) complete = false;
+        }
+        return complete;
+    }
+
     public void readChannel(ReadableByteChannel channel) throws IOException {
         final int count = channel.read(nioBuffer.slice(writerOffset, capacity - writerOffset));
         if (count == -1) {
@@ -0,0 +1,123 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.event.player.PlayerLoginEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
+import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.server.network.socket.RecordingSocketConnection;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkSendQueueIntegrationTest {
+
+    @Test
+    public void nearestFirst(Env env) throws IOException {
+        var instance = env.createFlatInstance();
+        var connection = new RecordingSocketConnection(env.process().server());
+        connect(env, connection, instance, new Pos(0, 40, 0));
+        // Queued during the spawn, sent from the next tick
+        assertEquals(List.of(), connection.packets(ChunkDataPacket.class));
+
+        env.tick();
+        var sent = connection.packets(ChunkDataPacket.class);
+        assertEquals(ChunkSendQueue.CHUNKS_PER_TICK, sent.size());
+        // No chunk of the view is nearer than the farthest sent one
+        List<Integer> distances = new ArrayList<>();
+        ChunkUtils.forChunksInRange(0, 0, MinecraftServer.getChunkViewDistance(),
+                (chunkX, chunkZ) -> distances.add(chunkX * chunkX + chunkZ * chunkZ));
+        distances.sort(null);
+        final int farthest = sent.stream()
+                .mapToInt(packet -> packet.chunkX() * packet.chunkX() + packet.chunkZ() * packet.chunkZ())
+                .max().orElseThrow();
+        assertEquals(distances.get(ChunkSendQueue.CHUNKS_PER_TICK - 1), farthest);
+
+        // The whole view is eventually sent, once
+        assertTrue(env.tickWhile(() -> connection.packets(ChunkDataPacket.class).size() < distances.size(), Duration.ofSeconds(5)));
+        env.tick();
+        sent = connection.packets(ChunkDataPacket.class);
+        assertEquals(distances.size(), sent.size());
+        Set<Long> indexes = new HashSet<>();
+        for (ChunkDataPacket packet : sent) {
+            assertTrue(indexes.add(ChunkUtils.getChunkIndex(packet.chunkX(), packet.chunkZ())));
+        }
+    }
+
+    @Test
+    public void leftViewBeforeSend(Env env) throws IOException {
+        var instance = env.createFlatInstance();
+        var connection = new RecordingSocketConnection(env.process().server());
+        var player = connect(env, connection, instance, new Pos(0, 40, 0));
+        assertEquals(List.of(), connection.packets(ChunkDataPacket.class));
+
+        // Far enough for the views not to overlap
+        final int viewDistance = MinecraftServer.getChunkViewDistance();
+        final int chunkX = viewDistance * 4;
+        player.teleport(new Pos(chunkX * 16, 40, 0)).join();
+        // The client never received the old chunks
+        assertEquals(List.of(), connection.packets(UnloadChunkPacket.class));
+
+        final int viewSize = ChunkUtils.getChunkCount(viewDistance);
+        assertTrue(env.tickWhile(() -> connection.packets(ChunkDataPacket.class).size() < viewSize, Duration.ofSeconds(5)));
+        env.tick();
+        var sent = connection.packets(ChunkDataPacket.class);
+        assertEquals(viewSize, sent.size());
+        for (ChunkDataPacket packet : sent) {
+            assertTrue(Math.abs(packet.chunkX() - chunkX) <= viewDistance, "Chunk of the old view sent: " + packet.chunkX());
+        }
+        assertEquals(List.of(), connection.packets(UnloadChunkPacket.class));
+    }
+
+    @Test
+    public void dropFailedLoads(Env env) throws IOException {
+        var instance = env.createFlatInstance();
+        var connection = new RecordingSocketConnection(env.process().server());
+        var player = connect(env, connection, instance, new Pos(0, 40, 0));
+
+        var queue = new ChunkSendQueue(player);
+        assertTrue(queue.isLimited());
+        CompletableFuture<Chunk> cancelled = new CompletableFuture<>();
+        cancelled.cancel(false);
+        CompletableFuture<Chunk> loading = new CompletableFuture<>();
+        queue.add(0, 0, CompletableFuture.completedFuture(null));
+        queue.add(1, 0, cancelled);
+        queue.add(2, 0, CompletableFuture.failedFuture(new IllegalStateException()));
+        queue.add(3, 0, loading);
+
+        queue.process(0, 0);
+        // Only the load in progress is still waiting
+        assertEquals(1, queue.size());
+        assertEquals(List.of(), connection.packets(ChunkDataPacket.class));
+
+        loading.complete(instance.loadChunk(3, 0).join());
+        queue.process(0, 0);
+        assertEquals(0, queue.size());
+        var sent = connection.packets(ChunkDataPacket.class);
+        assertEquals(1, sent.size());
+        assertEquals(3, sent.get(0).chunkX());
+    }
+
+    private static Player connect(Env env, PlayerConnection connection, Instance instance, Pos pos) {
+        Player player = new Player(UUID.randomUUID(), "RandName", connection);
+        player.eventNode().addListener(PlayerLoginEvent.class, event -> {
+            event.setSpawningInstance(instance);
+            event.getPlayer().setRespawnPoint(pos);
+        });
+        env.process().connection().startPlayState(player, true).join();
+        env.process().connection().updateWaitingPlayers();
+        return player;
+    }
+}
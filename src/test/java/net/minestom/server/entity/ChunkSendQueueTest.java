@@ -0,0 +1,18 @@
+package net.minestom.server.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkSendQueueTest {
+
+    @Test
+    public void budget() {
+        assertEquals(ChunkSendQueue.CHUNKS_PER_TICK, ChunkSendQueue.budget(0));
+        assertEquals(ChunkSendQueue.CHUNKS_PER_TICK / 2, ChunkSendQueue.budget(1));
+        // Always make progress while under the backlog limit
+        assertTrue(ChunkSendQueue.budget(ChunkSendQueue.BACKLOG_LIMIT - 1) >= 1);
+        assertEquals(0, ChunkSendQueue.budget(ChunkSendQueue.BACKLOG_LIMIT));
+    }
+}
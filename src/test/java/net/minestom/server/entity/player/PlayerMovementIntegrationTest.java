@@ -10,6 +10,7 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.listener.MovementSlot;
 import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
 import net.minestom.server.network.packet.client.play.ClientTeleportConfirmPacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
@@ -19,6 +20,7 @@ import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -43,6 +45,27 @@ public class PlayerMovementIntegrationTest {
         assertEquals(new Pos(0.2, 40, 0), p1.getPosition());
     }
 
+    @Test
+    public void movementSlot(Env env) {
+        var instance = env.createFlatInstance();
+        var p1 = env.createPlayer(instance, new Pos(0, 40, 0));
+        var slot = p1.movementSlot();
+        // Movement before confirmation, must be processed before the confirmation packet
+        slot.read(MovementSlot.POSITION, positionPayload(0.2, 40, 0));
+        p1.addPacketToQueue(new ClientTeleportConfirmPacket(p1.getLastSentTeleportId()));
+        p1.interpretPacketQueue();
+        assertEquals(new Pos(0, 40, 0), p1.getPosition());
+        // Only the newest movement is kept
+        slot.read(MovementSlot.POSITION, positionPayload(0.2, 40, 0));
+        slot.read(MovementSlot.POSITION, positionPayload(0.4, 40, 0));
+        p1.interpretPacketQueue();
+        assertEquals(new Pos(0.4, 40, 0), p1.getPosition());
+    }
+
+    private static ByteBuffer positionPayload(double x, double y, double z) {
+        return ByteBuffer.allocate(25).putDouble(x).putDouble(y).putDouble(z).put((byte) 1).flip();
+    }
+
     // FIXME
     //@Test
     public void singleTickMovementUpdate(Env env) {
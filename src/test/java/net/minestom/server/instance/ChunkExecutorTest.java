@@ -0,0 +1,127 @@
+package net.minestom.server.instance;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkExecutorTest {
+
+    @Test
+    public void priorityOrder() throws InterruptedException {
+        ChunkExecutor executor = new ChunkExecutor(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        executor.submit(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }, () -> 0);
+        for (int priority : new int[]{3, 1, 2}) {
+            executor.submit(() -> {
+                order.add(priority);
+                done.countDown();
+            }, () -> priority);
+        }
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), order);
+
+        var statistics = executor.statistics();
+        assertEquals(0, statistics.queued());
+        assertTrue(statistics.maxLatencyNanos() > 0);
+        executor.shutdown();
+    }
+
+    @Test
+    public void cancellation() throws InterruptedException {
+        ChunkExecutor executor = new ChunkExecutor(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.submit(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }, () -> 0);
+        // Callbacks run on the worker, violations are checked from the test thread
+        AtomicBoolean droppedExecuted = new AtomicBoolean();
+        AtomicBoolean pinnedCancelled = new AtomicBoolean();
+        var dropped = executor.task(() -> droppedExecuted.set(true), () -> Long.MAX_VALUE, cancelled::countDown);
+        var pinned = executor.task(done::countDown, () -> Long.MAX_VALUE, () -> pinnedCancelled.set(true));
+        executor.submit(dropped);
+        executor.submit(pinned);
+        assertTrue(pinned.pin());
+        // Let the priorities expire
+        Thread.sleep(100);
+        blocker.countDown();
+
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(droppedExecuted.get(), "Cancelled task executed");
+        assertFalse(pinnedCancelled.get(), "Pinned task cancelled");
+        assertTrue(dropped.isCancelled());
+        assertFalse(dropped.pin());
+        assertEquals(1, executor.statistics().cancelled());
+        executor.shutdown();
+    }
+
+    @Test
+    public void prioritySupplierUnlocked() throws InterruptedException {
+        // Suppliers may wait on threads submitting chunk tasks, the executor lock must not be held
+        ChunkExecutor executor = new ChunkExecutor(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.submit(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }, () -> 0);
+        AtomicBoolean blocked = new AtomicBoolean();
+        executor.submit(done::countDown, () -> {
+            try {
+                CompletableFuture.runAsync(() -> executor.submit(() -> {
+                }, () -> 0)).get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                blocked.set(true);
+            }
+            return 0;
+        });
+        // Let the priorities expire
+        Thread.sleep(100);
+        blocker.countDown();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertFalse(blocked.get(), "Priority supplier called under the executor lock");
+        executor.shutdown();
+    }
+
+    @Test
+    public void pinWhileStarting() throws InterruptedException {
+        // Pinning a task while a worker starts it must not prevent its execution
+        ChunkExecutor executor = new ChunkExecutor(2);
+        final int count = 10_000;
+        CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            var task = executor.task(done::countDown, () -> 0, () -> {
+            });
+            executor.submit(task);
+            task.pin();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS), done.getCount() + " tasks never executed");
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,50 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@EnvTest
+public class HeightmapIntegrationTest {
+
+    @Test
+    public void generated(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        for (Heightmap.Type type : Heightmap.Type.values()) {
+            var heightmap = chunk.getHeightmap(type);
+            assertNotNull(heightmap);
+            assertEquals(40, heightmap.getHeight(0, 0));
+            assertEquals(40, heightmap.getHeight(15, 15));
+        }
+    }
+
+    @Test
+    public void update(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        var worldSurface = chunk.getHeightmap(Heightmap.Type.WORLD_SURFACE);
+        var motionBlocking = chunk.getHeightmap(Heightmap.Type.MOTION_BLOCKING);
+        var motionBlockingNoLeaves = chunk.getHeightmap(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES);
+
+        instance.setBlock(8, 50, 8, Block.STONE);
+        assertEquals(51, worldSurface.getHeight(8, 8));
+        assertEquals(40, worldSurface.getHeight(9, 8));
+
+        instance.setBlock(8, 60, 8, Block.OAK_LEAVES);
+        assertEquals(61, motionBlocking.getHeight(8, 8));
+        assertEquals(51, motionBlockingNoLeaves.getHeight(8, 8));
+
+        instance.setBlock(8, 60, 8, Block.AIR);
+        assertEquals(51, worldSurface.getHeight(8, 8));
+        instance.setBlock(8, 50, 8, Block.AIR);
+        assertEquals(40, worldSurface.getHeight(8, 8));
+
+        instance.setBlock(8, 39, 8, Block.AIR);
+        assertEquals(39, worldSurface.getHeight(8, 8));
+    }
+}
@@ -4,10 +4,18 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.tag.Tag;
+import net.minestom.server.utils.NamespaceID;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @EnvTest
@@ -73,4 +81,129 @@ public class InstanceBlockIntegrationTest {
         instance.setBlock(point, Block.GRASS.withTag(tag, 8));
         assertEquals(8, instance.getBlock(point).getTag(tag));
     }
+
+    @Test
+    public void concurrentChanges(Env env) throws InterruptedException {
+        var instance = env.createFlatInstance();
+        for (int chunkX = -1; chunkX <= 5; chunkX++) instance.loadChunk(chunkX, 0).join();
+        // Nested change in the next chunk, whose stripes may be held by another thread
+        BlockHandler handler = new BlockHandler() {
+            @Override
+            public void onPlace(@NotNull Placement placement) {
+                placement.getInstance().setBlock(placement.getBlockPosition().add(16, 1, 0), Block.GOLD_BLOCK);
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:test");
+            }
+        };
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final int chunkX = i;
+            threads[i] = new Thread(() -> {
+                for (int x = 0; x < 16; x++) {
+                    for (int z = 0; z < 16; z++) {
+                        instance.setBlock(chunkX * 16 + x, 50, z, Block.STONE);
+                        instance.setBlock(chunkX * 16 + x, 51, z, Block.STONE.withHandler(handler));
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join(10_000);
+            assertFalse(thread.isAlive(), "Block changes did not complete");
+        }
+
+        for (int x = 0; x < 64; x++) {
+            for (int z = 0; z < 16; z++) {
+                assertEquals(Block.STONE, instance.getBlock(x, 50, z));
+                assertEquals(handler, instance.getBlock(x, 51, z).handler());
+                assertEquals(Block.GOLD_BLOCK, instance.getBlock(x + 16, 52, z));
+            }
+        }
+    }
+
+    @Test
+    public void deferredChangeAfterFailure(Env env) throws InterruptedException {
+        var instance = env.createFlatInstance();
+        // Chunk whose lock stripe differs from the one of the chunk 0
+        int chunkX = 1;
+        while (InstanceContainer.blockStripes(chunkX * 16 + 8, 8)[0] == InstanceContainer.blockStripes(8, 8)[0]) chunkX++;
+        final int otherX = chunkX * 16 + 8;
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(chunkX, 0).join();
+
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> instance.setBlock(otherX, 50, 8, Block.STONE.withHandler(handler(placement -> {
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }))));
+        holder.start();
+        held.await();
+
+        // Deferred since the other stripe is held, then the outer change fails
+        var failing = Block.STONE.withHandler(handler(placement -> {
+            instance.setBlock(otherX, 60, 8, Block.GOLD_BLOCK);
+            release.countDown();
+            throw new IllegalStateException("Failing placement");
+        }));
+        assertThrows(IllegalStateException.class, () -> instance.setBlock(8, 50, 8, failing));
+        holder.join(10_000);
+        assertFalse(holder.isAlive());
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(otherX, 60, 8));
+    }
+
+    @Test
+    public void repeatedChange(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        // Replacing itself from its own placement is only applied once
+        AtomicInteger nested = new AtomicInteger();
+        var replacing = Block.STONE.withHandler(handler(placement -> {
+            nested.incrementAndGet();
+            instance.setBlock(placement.getBlockPosition(), placement.getBlock());
+        }));
+        instance.setBlock(8, 50, 8, replacing);
+        assertEquals(1, nested.get());
+
+        // Separate changes during the same tick are all applied
+        AtomicInteger placed = new AtomicInteger();
+        var counting = Block.STONE.withHandler(handler(placement -> placed.incrementAndGet()));
+        instance.setBlock(8, 51, 8, counting);
+        instance.setBlock(8, 51, 8, counting);
+        assertEquals(2, placed.get());
+    }
+
+    @Test
+    public void copyDuringChange(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var copying = Block.STONE.withHandler(handler(placement -> instance.copy()));
+        assertThrows(IllegalStateException.class, () -> instance.setBlock(8, 50, 8, copying));
+
+        var copy = instance.copy();
+        assertEquals(copying.handler(), copy.getBlock(8, 50, 8).handler());
+    }
+
+    private static BlockHandler handler(Consumer<BlockHandler.Placement> onPlace) {
+        return new BlockHandler() {
+            @Override
+            public void onPlace(@NotNull Placement placement) {
+                onPlace.accept(placement);
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:test");
+            }
+        };
+    }
 }
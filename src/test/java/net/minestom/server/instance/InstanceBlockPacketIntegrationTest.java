@@ -8,6 +8,8 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.NamespaceID;
 import org.jetbrains.annotations.NotNull;
@@ -16,8 +18,11 @@ import org.jglrxavpok.hephaistos.parser.SNBTParser;
 import org.junit.jupiter.api.Test;
 
 import java.io.StringReader;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -34,9 +39,11 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(Block.AIR, instance.getBlock(blockPoint));
 
-        var tracker = connection.trackIncoming();
+        var tracker = connection.trackIncoming(BlockChangePacket.class);
         instance.setBlock(blockPoint, Block.STONE);
-        tracker.assertSingle(BlockChangePacket.class, packet -> {
+        tracker.assertEmpty(); // Sent at the end of the tick
+        env.tick();
+        tracker.assertSingle(packet -> {
             assertEquals(blockPoint, packet.blockPosition());
             assertEquals(Block.STONE.stateId(), packet.blockStateId());
         });
@@ -84,6 +91,7 @@ public class InstanceBlockPacketIntegrationTest {
         var blockChangeTracker = connection.trackIncoming(BlockChangePacket.class);
         var blockEntityTracker = connection.trackIncoming(BlockEntityDataPacket.class);
         instance.setBlock(blockPoint, block);
+        env.tick();
         blockChangeTracker.assertSingle(packet -> {
             assertEquals(blockPoint, packet.blockPosition());
             assertEquals(block.stateId(), packet.blockStateId());
@@ -96,4 +104,47 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(block, instance.getBlock(blockPoint));
     }
+
+    @Test
+    public void multiBlockChange(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var blockChangeTracker = connection.trackIncoming(BlockChangePacket.class);
+        var multiBlockChangeTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        instance.setBlock(1, 41, 1, Block.STONE);
+        instance.setBlock(2, 41, 1, Block.DIRT);
+        instance.setBlock(2, 41, 1, Block.GOLD_BLOCK); // Overrides the previous change
+        instance.setBlock(1, 60, 1, Block.STONE); // Different section
+        env.tick();
+        blockChangeTracker.assertSingle(packet -> {
+            assertEquals(new Vec(1, 60, 1), packet.blockPosition());
+            assertEquals(Block.STONE.stateId(), packet.blockStateId());
+        });
+        multiBlockChangeTracker.assertSingle(packet -> {
+            assertEquals(2, packet.blocks().length);
+            assertEquals(Set.of((long) Block.STONE.stateId() << 12 | 1 << 8 | 1 << 4 | 9,
+                            (long) Block.GOLD_BLOCK.stateId() << 12 | 2 << 8 | 1 << 4 | 9),
+                    Arrays.stream(packet.blocks()).boxed().collect(Collectors.toSet()));
+        });
+    }
+
+    @Test
+    public void chunkResend(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var blockChangeTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var chunkTracker = connection.trackIncoming(ChunkDataPacket.class);
+        for (int i = 0; i <= BlockChangeBuffer.CHUNK_RESEND_THRESHOLD; i++) {
+            instance.setBlock(i & 15, 41 + (i >> 8), i >> 4 & 15, Block.STONE);
+        }
+        env.tick();
+        blockChangeTracker.assertEmpty();
+        // Other chunks may still be loading around the player
+        assertEquals(1, chunkTracker.collect().stream()
+                .filter(packet -> packet.chunkX() == 0 && packet.chunkZ() == 0).count());
+    }
 }
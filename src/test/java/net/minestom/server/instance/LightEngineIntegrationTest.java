@@ -0,0 +1,85 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class LightEngineIntegrationTest {
+
+    @Test
+    public void blockLight(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        env.tick();
+
+        instance.setBlock(8, 50, 8, Block.GLOWSTONE);
+        env.tick();
+        assertEquals(15, blockLight(chunk, 8, 50, 8));
+        assertEquals(14, blockLight(chunk, 9, 50, 8));
+        assertEquals(12, blockLight(chunk, 8, 52, 9));
+        assertEquals(0, blockLight(chunk, 8, 39, 8)); // Stone
+
+        instance.setBlock(8, 50, 8, Block.AIR);
+        env.tick();
+        assertEquals(0, blockLight(chunk, 8, 50, 8));
+        assertEquals(0, blockLight(chunk, 9, 50, 8));
+    }
+
+    @Test
+    public void skyLight(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        env.tick();
+        assertEquals(15, skyLight(chunk, 8, 45, 8));
+        assertEquals(0, skyLight(chunk, 8, 20, 8));
+
+        instance.setBlock(8, 46, 8, Block.STONE);
+        env.tick();
+        assertEquals(14, skyLight(chunk, 8, 45, 8));
+        assertEquals(14, skyLight(chunk, 8, 40, 8));
+
+        instance.setBlock(8, 46, 8, Block.AIR);
+        env.tick();
+        assertEquals(15, skyLight(chunk, 8, 40, 8));
+    }
+
+    @Test
+    public void seam(Env env) {
+        var instance = env.process().instance().createInstanceContainer();
+        // Chunk 0 is roofed, only lit from the open chunk 1, and has a light source next to it
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(0, 40, Block.STONE);
+            if (unit.absoluteStart().chunkX() == 0) {
+                unit.modifier().fill(unit.absoluteStart().withY(50), unit.absoluteEnd().withY(51), Block.STONE);
+                unit.modifier().setBlock(14, 45, 2, Block.GLOWSTONE);
+            }
+        });
+        var roofed = instance.loadChunk(0, 0).join();
+        var open = instance.loadChunk(1, 0).join();
+        env.tick();
+        assertEquals(15, skyLight(open, 16, 45, 8));
+        assertEquals(14, skyLight(roofed, 15, 45, 8));
+        assertEquals(12, skyLight(roofed, 13, 45, 8));
+        assertEquals(8, skyLight(roofed, 9, 45, 8));
+
+        assertEquals(14, blockLight(roofed, 15, 45, 2));
+        assertEquals(13, blockLight(open, 16, 45, 2));
+        assertEquals(11, blockLight(open, 18, 45, 2));
+    }
+
+    private static int blockLight(Chunk chunk, int x, int y, int z) {
+        return LightEngine.get(chunk.getSectionAt(y).getBlockLight(), index(x, y, z));
+    }
+
+    private static int skyLight(Chunk chunk, int x, int y, int z) {
+        return LightEngine.get(chunk.getSectionAt(y).getSkyLight(), index(x, y, z));
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+}
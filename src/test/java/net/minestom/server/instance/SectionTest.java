@@ -0,0 +1,31 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.network.NetworkBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SectionTest {
+
+    @Test
+    public void encodedCache() {
+        Section section = new Section();
+        final byte[] empty = section.encoded();
+        assertSame(empty, section.encoded());
+
+        section.blockPalette().set(0, 0, 0, 1);
+        assertSame(empty, section.encoded(), "Direct palette changes require invalidation");
+
+        section.invalidate();
+        final byte[] modified = section.encoded();
+        assertNotSame(empty, modified);
+        assertArrayEquals(modified, NetworkBuffer.makeArray(buffer -> {
+            buffer.write(NetworkBuffer.SHORT, (short) 1);
+            buffer.write(section.blockPalette());
+            buffer.write(section.biomePalette());
+        }));
+
+        section.clear();
+        assertArrayEquals(empty, section.encoded());
+    }
+}
@@ -0,0 +1,67 @@
+package net.minestom.server.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NetworkStatisticsTest {
+
+    @Test
+    public void counters() {
+        var statistics = NetworkStatistics.open();
+        statistics.packetIn(0x01, 10);
+        statistics.packetIn(0x01, 5);
+        statistics.packetOut(0x02, 20);
+        statistics.packetOut(NetworkStatistics.MAX_PACKET_ID, 20); // Ignored
+        statistics.socketOut(40);
+        statistics.flush(100, 2);
+        statistics.flush(300, 0);
+
+        var snapshot = statistics.snapshot();
+        assertEquals(2, snapshot.packetsIn()[0x01]);
+        assertEquals(15, snapshot.bytesIn()[0x01]);
+        assertEquals(1, snapshot.totalPacketsOut());
+        assertEquals(20, snapshot.bytesOut()[0x02]);
+        assertEquals(40, snapshot.socketBytesOut());
+        assertEquals(2, snapshot.flushCount());
+        assertEquals(200, snapshot.averageFlushNanos());
+        assertEquals(300, snapshot.maxFlushNanos());
+        assertEquals(0, snapshot.waitingBuffers());
+        statistics.close();
+    }
+
+    @Test
+    public void totalIncludesClosed() {
+        final long before = NetworkStatistics.total().packetsIn()[0x05];
+        var statistics = NetworkStatistics.open();
+        statistics.packetIn(0x05, 1);
+        assertEquals(before + 1, NetworkStatistics.total().packetsIn()[0x05]);
+        statistics.close();
+        assertEquals(before + 1, NetworkStatistics.total().packetsIn()[0x05]);
+        statistics.close(); // Already closed, must not be counted twice
+        assertEquals(before + 1, NetworkStatistics.total().packetsIn()[0x05]);
+    }
+
+    @Test
+    public void frames() {
+        var statistics = NetworkStatistics.open();
+        // Ids 0x02 (2 bytes payload) and 0x03, after a skipped byte
+        statistics.framesOut(ByteBuffer.wrap(new byte[]{9, 3, 0x02, 0, 0, 1, 0x03}), 1, 6, false);
+        // Id 0x05 below the compression threshold, then a compressed frame
+        statistics.framesOut(ByteBuffer.wrap(new byte[]{4, 0, 0x05, 1, 1, 3, 10, 7, 7}), 0, 9, true);
+
+        var snapshot = statistics.snapshot();
+        assertEquals(1, snapshot.packetsOut()[0x02]);
+        assertEquals(4, snapshot.bytesOut()[0x02]);
+        assertEquals(1, snapshot.packetsOut()[0x03]);
+        assertEquals(2, snapshot.bytesOut()[0x03]);
+        assertEquals(1, snapshot.packetsOut()[0x05]);
+        assertEquals(5, snapshot.bytesOut()[0x05]);
+        assertEquals(3, snapshot.totalPacketsOut());
+        assertEquals(1, snapshot.compressedFramesOut());
+        assertEquals(4, snapshot.compressedFrameBytesOut());
+        statistics.close();
+    }
+}
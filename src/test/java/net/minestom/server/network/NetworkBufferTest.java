@@ -208,6 +208,32 @@ public class NetworkBufferTest {
         assertBufferType(VAR_INT, -2147483648, new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x08});
     }
 
+    @Test
+    public void primitives() {
+        var buffer = new NetworkBuffer(1);
+        buffer.writeBoolean(true);
+        buffer.writeByte((byte) 5);
+        buffer.writeShort((short) -300);
+        buffer.writeInt(123456);
+        buffer.writeLong(Long.MAX_VALUE);
+        buffer.writeFloat(1.5f);
+        buffer.writeDouble(-2.25);
+        buffer.writeVarInt(25565);
+        buffer.writeVarInt(-1);
+        assertEquals(1 + 1 + 2 + 4 + 8 + 4 + 8 + 3 + 5, buffer.writeIndex());
+
+        assertEquals(true, buffer.read(BOOLEAN));
+        assertEquals((byte) 5, buffer.readByte());
+        assertEquals((short) -300, buffer.read(SHORT));
+        assertEquals(123456, buffer.readInt());
+        assertEquals(Long.MAX_VALUE, buffer.read(LONG));
+        assertEquals(1.5f, buffer.readFloat());
+        assertEquals(-2.25, buffer.read(DOUBLE));
+        assertEquals(25565, buffer.readVarInt());
+        assertEquals(-1, buffer.read(VAR_INT));
+        assertEquals(0, buffer.readableBytes());
+    }
+
     @Test
     public void varLong() {
         assertBufferType(VAR_LONG, 0L, new byte[]{0});
@@ -0,0 +1,44 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.EntityTeleportPacket;
+import net.minestom.server.network.packet.server.play.KeepAlivePacket;
+import net.minestom.server.network.packet.server.play.TimeUpdatePacket;
+import net.minestom.server.network.player.OverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static net.minestom.server.network.player.OverflowPolicy.Action.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OverflowPolicyTest {
+
+    @Test
+    public void none() {
+        var policy = OverflowPolicy.none();
+        assertEquals(WRITE, policy.onOverflow(null, new TimeUpdatePacket(0, 0), 0));
+        assertEquals(WRITE, policy.onOverflow(null, new KeepAlivePacket(0), Long.MAX_VALUE));
+    }
+
+    @Test
+    public void drop() {
+        var policy = OverflowPolicy.drop();
+        assertEquals(DROP, policy.onOverflow(null, new TimeUpdatePacket(0, 0), 0));
+        assertEquals(WRITE, policy.onOverflow(null, new KeepAlivePacket(0), 0));
+        // The only way to correct a drifting position
+        assertEquals(WRITE, policy.onOverflow(null, new EntityTeleportPacket(1, Pos.ZERO, true), 0));
+        // Groups cannot be partially dropped
+        assertEquals(WRITE, policy.onGroupedOverflow(null, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void disconnect() {
+        var policy = OverflowPolicy.disconnect(Duration.ofSeconds(1));
+        assertEquals(DROP, policy.onOverflow(null, new TimeUpdatePacket(0, 0), 0));
+        assertEquals(WRITE, policy.onOverflow(null, new KeepAlivePacket(0), 0));
+        assertEquals(DISCONNECT, policy.onOverflow(null, new KeepAlivePacket(0), Duration.ofSeconds(2).toNanos()));
+        assertEquals(WRITE, policy.onGroupedOverflow(null, 0));
+        assertEquals(DISCONNECT, policy.onGroupedOverflow(null, Duration.ofSeconds(2).toNanos()));
+    }
+}
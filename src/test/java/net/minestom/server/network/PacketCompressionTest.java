@@ -0,0 +1,77 @@
+package net.minestom.server.network;
+
+import it.unimi.dsi.fastutil.Pair;
+import net.minestom.server.network.packet.client.play.ClientPluginMessagePacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketCompressionTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {Deflater.NO_COMPRESSION, Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION})
+    public void levels(int level) throws DataFormatException {
+        PacketCompression.setSettings(ClientPluginMessagePacket.class, new PacketCompression.Settings(level, Deflater.DEFAULT_STRATEGY));
+        try {
+            var before = PacketCompression.statistics();
+            var packet = new ClientPluginMessagePacket("channel", new byte[2000]);
+
+            var buffer = ObjectPool.PACKET_POOL.get();
+            PacketUtils.writeFramedPacket(buffer, 0x0A, packet, 256);
+
+            var wrapper = BinaryBuffer.wrap(buffer);
+            wrapper.reset(0, buffer.position());
+
+            List<Pair<Integer, ByteBuffer>> packets = new ArrayList<>();
+            var remaining = PacketUtils.readPackets(wrapper, true,
+                    (integer, payload) -> packets.add(Pair.of(integer, payload)));
+            assertNull(remaining);
+            assertEquals(1, packets.size());
+            var readPacket = new ClientPluginMessagePacket(new NetworkBuffer(packets.get(0).right()));
+            assertEquals("channel", readPacket.channel());
+            assertEquals(2000, readPacket.data().length);
+
+            var after = PacketCompression.statistics();
+            assertTrue(after.deflateCount() > before.deflateCount());
+            assertTrue(after.inflateCount() > before.inflateCount());
+        } finally {
+            PacketCompression.setSettings(ClientPluginMessagePacket.class, null);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-2, 10})
+    public void invalidLevel(int level) {
+        assertThrows(IllegalArgumentException.class, () -> new PacketCompression.Settings(level, Deflater.DEFAULT_STRATEGY));
+    }
+
+    @Test
+    public void alternateSettings() throws DataFormatException {
+        // Chunk packets use their own settings, the deflater of the thread must not mix them up
+        final byte[] data = new byte[4096];
+        for (int i = 0; i < data.length; i++) data[i] = (byte) (i % 7);
+        for (int i = 0; i < 4; i++) {
+            final Class<?> type = i % 2 == 0 ? ChunkDataPacket.class : ClientPluginMessagePacket.class;
+            ByteBuffer compressed = ByteBuffer.allocateDirect(8192);
+            final int length = PacketCompression.deflate(type, ByteBuffer.wrap(data), compressed);
+            assertTrue(length > 0, "Empty output for " + type.getSimpleName());
+            assertEquals(length, compressed.position());
+
+            ByteBuffer decompressed = ByteBuffer.allocate(data.length);
+            assertEquals(data.length, PacketCompression.inflate(compressed.flip(), decompressed));
+            assertArrayEquals(data, decompressed.array());
+        }
+    }
+}
@@ -40,6 +40,23 @@ public class SocketWriteTest {
         }
     }
 
+    record SizedIntPacket(int value) implements ServerPacket, NetworkBuffer.SizedWriter {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.writeInt(value);
+        }
+
+        @Override
+        public int sizeOf() {
+            return 4;
+        }
+
+        @Override
+        public int getId() {
+            return 1;
+        }
+    }
+
     @Test
     public void writeSingleUncompressed() {
         var packet = new IntPacket(5);
@@ -105,4 +122,31 @@ public class SocketWriteTest {
         // The 3 bytes var-int length is hardcoded for performance purpose, could change in the future
         assertEquals((3 + 3 + 1 + 4) * 2, buffer.position(), "Invalid buffer position");
     }
+
+    @Test
+    public void writeSizedUncompressed() {
+        var packet = new SizedIntPacket(5);
+
+        var buffer = ObjectPool.PACKET_POOL.get();
+        PacketUtils.writeFramedPacket(buffer, packet, false);
+        PacketUtils.writeFramedPacket(buffer, packet, false);
+
+        // 1 byte length [var-int] + 1 byte packet id [var-int] + 4 bytes int
+        // Size is known ahead of time, the length does not need to be padded
+        assertEquals((1 + 1 + 4) * 2, buffer.position(), "Invalid buffer position");
+        assertEquals(5, buffer.get(0));
+    }
+
+    @Test
+    public void writeSizedCompressedSmall() {
+        var packet = new SizedIntPacket(5);
+
+        var buffer = ObjectPool.PACKET_POOL.get();
+        PacketUtils.writeFramedPacket(buffer, packet, true);
+
+        // 1 byte packet length [var-int] + 1 byte data length [var-int] + 1 byte packet id [var-int] + 4 bytes int
+        assertEquals(1 + 1 + 1 + 4, buffer.position(), "Invalid buffer position");
+        assertEquals(6, buffer.get(0));
+        assertEquals(0, buffer.get(1));
+    }
 }
@@ -0,0 +1,38 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Socket connection recording its packets instead of writing them, its worker is never started.
+ */
+public final class RecordingSocketConnection extends PlayerSocketConnection {
+    private final List<ServerPacket> packets = new CopyOnWriteArrayList<>();
+
+    public RecordingSocketConnection(@NotNull Server server) throws IOException {
+        super(new Worker(server), SocketChannel.open(), new InetSocketAddress("localhost", 25565));
+    }
+
+    @Override
+    public void sendPacket(@NotNull SendablePacket packet) {
+        this.packets.add(SendablePacket.extractServerPacket(packet));
+    }
+
+    @Override
+    public void sendPackets(@NotNull Collection<SendablePacket> packets) {
+        for (SendablePacket packet : packets) sendPacket(packet);
+    }
+
+    public <T extends ServerPacket> @NotNull List<T> packets(@NotNull Class<T> type) {
+        return packets.stream().filter(type::isInstance).map(type::cast).toList();
+    }
+}
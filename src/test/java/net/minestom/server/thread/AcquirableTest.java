@@ -4,10 +4,14 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class AcquirableTest {
 
@@ -41,4 +45,111 @@ public class AcquirableTest {
 
         assertNotEquals(firstThread, secondThread);
     }
+
+    @Test
+    public void crossAcquisition() {
+        // Threads acquiring the same tick threads in opposite order must not deadlock
+        TickThread first = new TickThread(0);
+        TickThread second = new TickThread(1);
+        final int count = 10_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            Thread t1 = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    var lock1 = AcquirableImpl.enter(Thread.currentThread(), first);
+                    var lock2 = AcquirableImpl.enter(Thread.currentThread(), second);
+                    assertTrue(first.lock().isHeldByCurrentThread());
+                    assertTrue(second.lock().isHeldByCurrentThread());
+                    AcquirableImpl.leave(lock2);
+                    AcquirableImpl.leave(lock1);
+                }
+            });
+            Thread t2 = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    var lock2 = AcquirableImpl.enter(Thread.currentThread(), second);
+                    var lock1 = AcquirableImpl.enter(Thread.currentThread(), first);
+                    assertTrue(first.lock().isHeldByCurrentThread());
+                    assertTrue(second.lock().isHeldByCurrentThread());
+                    AcquirableImpl.leave(lock1);
+                    AcquirableImpl.leave(lock2);
+                }
+            });
+            t1.start();
+            t2.start();
+            t1.join();
+            t2.join();
+        });
+        assertFalse(first.lock().isLocked());
+        assertFalse(second.lock().isLocked());
+    }
+
+    @Test
+    public void collection() {
+        TickThread first = new TickThread(0);
+        TickThread second = new TickThread(1);
+        List<Acquirable<Integer>> acquirables = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            var acquirable = (AcquirableImpl<Integer>) Acquirable.of(i);
+            acquirable.updateThread(i % 2 == 0 ? first : second);
+            acquirables.add(acquirable);
+        }
+        final long acquisitions = Acquirable.statistics().acquisitions();
+        AcquirableCollection<Integer> collection = new AcquirableCollection<>(acquirables);
+        List<Integer> values = new ArrayList<>();
+        collection.acquireSync(value -> {
+            assertTrue(first.lock().isHeldByCurrentThread());
+            assertTrue(second.lock().isHeldByCurrentThread());
+            values.add(value);
+        });
+        assertEquals(10, values.size());
+        // Each thread is only acquired once
+        assertEquals(acquisitions + 2, Acquirable.statistics().acquisitions());
+        assertFalse(first.lock().isLocked());
+        assertFalse(second.lock().isLocked());
+    }
+
+    @Test
+    public void nestedExclusivity() {
+        // A contended nested acquisition must not release the outer one
+        TickThread first = new TickThread(0);
+        TickThread second = new TickThread(1);
+        AtomicBoolean outerHeld = new AtomicBoolean();
+        AtomicBoolean violation = new AtomicBoolean();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            var outerLock = AcquirableImpl.enter(Thread.currentThread(), second);
+            outerHeld.set(true);
+            // Simulates the owner of the first thread ticking
+            CountDownLatch holding = new CountDownLatch(1);
+            Thread owner = new Thread(() -> {
+                first.lock().lock();
+                holding.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException ignored) {
+                } finally {
+                    first.lock().unlock();
+                }
+            });
+            owner.start();
+            holding.await();
+            Thread intruder = new Thread(() -> {
+                var lock = AcquirableImpl.enter(Thread.currentThread(), second);
+                if (outerHeld.get()) violation.set(true);
+                AcquirableImpl.leave(lock);
+            });
+            intruder.start();
+
+            var nestedLock = AcquirableImpl.enter(Thread.currentThread(), first);
+            assertTrue(first.lock().isHeldByCurrentThread());
+            assertTrue(second.lock().isHeldByCurrentThread());
+            AcquirableImpl.leave(nestedLock);
+            outerHeld.set(false);
+            AcquirableImpl.leave(outerLock);
+
+            owner.join();
+            intruder.join();
+        });
+        assertFalse(violation.get(), "Outer acquisition released during a nested one");
+        assertFalse(first.lock().isLocked());
+        assertFalse(second.lock().isLocked());
+    }
 }
@@ -0,0 +1,84 @@
+package net.minestom.server.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MailboxTest {
+
+    @Test
+    public void send() {
+        List<String> owner = new ArrayList<>();
+        Mailbox<List<String>> mailbox = Mailbox.of(owner);
+        mailbox.send(list -> list.add("first"));
+        mailbox.send(list -> list.add("second"));
+        assertTrue(owner.isEmpty(), "Messages must only be executed once drained");
+
+        mailbox.drain();
+        assertEquals(List.of("first", "second"), owner);
+    }
+
+    @Test
+    public void ask() throws Exception {
+        Mailbox<List<String>> mailbox = Mailbox.of(new ArrayList<>(List.of("value")));
+        var result = mailbox.ask(List::size);
+        var failure = mailbox.<Integer>ask(list -> {
+            throw new IllegalStateException();
+        });
+        assertFalse(result.isDone());
+
+        mailbox.drain();
+        assertEquals(1, result.get());
+        var exception = assertThrows(ExecutionException.class, failure::get);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    public void close() {
+        List<String> owner = new ArrayList<>();
+        Mailbox<List<String>> mailbox = Mailbox.of(owner);
+        var pending = mailbox.ask(list -> list.add("pending"));
+        mailbox.close();
+        assertTrue(mailbox.isClosed());
+        assertThrows(CancellationException.class, pending::join);
+
+        var afterClose = mailbox.ask(list -> list.add("closed"));
+        assertThrows(CancellationException.class, afterClose::join);
+        mailbox.send(list -> list.add("ignored"));
+        mailbox.drain();
+        assertTrue(owner.isEmpty());
+    }
+
+    @Test
+    public void concurrentClose() throws InterruptedException {
+        // Every message must be delivered or cancelled, even when offered while the mailbox is closing
+        for (int i = 0; i < 100; i++) {
+            Mailbox<Object> mailbox = Mailbox.of(new Object());
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread sender = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) futures.add(mailbox.ask(owner -> 1));
+            });
+            Thread consumer = new Thread(() -> {
+                while (running.get()) mailbox.drain();
+            });
+            sender.start();
+            consumer.start();
+            Thread.sleep(0, 100_000);
+            mailbox.close();
+            sender.join();
+            running.set(false);
+            consumer.join();
+            for (CompletableFuture<Integer> future : futures) {
+                assertTrue(future.isDone(), "Message neither delivered nor cancelled");
+            }
+        }
+    }
+}
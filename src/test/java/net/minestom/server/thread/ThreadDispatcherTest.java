@@ -4,10 +4,13 @@ import net.minestom.server.Tickable;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -167,4 +170,175 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedProvider() {
+        // Two expensive partitions initially on the same thread should be split
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(ThreadProvider.balanced(0.1, Duration.ZERO), 2);
+        Tickable heavy1 = (time) -> spin(1_000_000);
+        Tickable light = (time) -> {
+        };
+        Tickable heavy2 = (time) -> spin(1_000_000);
+        // Counter placement: heavy1 -> 0, light -> 1, heavy2 -> 0
+        dispatcher.createPartition(heavy1);
+        dispatcher.createPartition(light);
+        dispatcher.createPartition(heavy2);
+
+        for (int i = 0; i < 20; i++) {
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+            dispatcher.refreshThreads();
+        }
+        for (TickThread thread : dispatcher.threads()) {
+            final long heavyCount = thread.entries().stream()
+                    .filter(partition -> partition.cost() > 500_000).count();
+            assertEquals(1, heavyCount, "Expensive partitions have not been balanced");
+        }
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void regionSharedThread() {
+        Map<Tickable, String> regions = new ConcurrentHashMap<>();
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.regions(ThreadProvider.counter(), 4,
+                regions::get, Long.MAX_VALUE);
+        Map<Tickable, Thread> threads = new ConcurrentHashMap<>();
+        Tickable p1 = new Tickable() {
+            @Override
+            public void tick(long time) {
+                threads.put(this, Thread.currentThread());
+            }
+        };
+        Tickable p2 = new Tickable() {
+            @Override
+            public void tick(long time) {
+                threads.put(this, Thread.currentThread());
+            }
+        };
+        Tickable p3 = new Tickable() {
+            @Override
+            public void tick(long time) {
+                threads.put(this, Thread.currentThread());
+            }
+        };
+        regions.put(p1, "a");
+        regions.put(p2, "a");
+        regions.put(p3, "b");
+        dispatcher.createPartition(p1);
+        dispatcher.createPartition(p2);
+        dispatcher.createPartition(p3);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(threads.get(p1), threads.get(p2));
+        assertNotEquals(threads.get(p1), threads.get(p3));
+
+        // Unloading a partition must not stop the rest of its region
+        dispatcher.deletePartition(p1);
+        threads.clear();
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertNull(threads.get(p1));
+        assertNotNull(threads.get(p2));
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void regionMergeSplit() {
+        final AtomicBoolean expensive = new AtomicBoolean();
+        Map<Tickable, String> regions = new ConcurrentHashMap<>();
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.regions(ThreadProvider.counter(), 2,
+                regions::get, 1_000_000);
+        Map<Tickable, Thread> threads = new ConcurrentHashMap<>();
+        Tickable p1 = new Tickable() {
+            @Override
+            public void tick(long time) {
+                threads.put(this, Thread.currentThread());
+                if (expensive.get()) spin(2_000_000);
+            }
+        };
+        Tickable p2 = new Tickable() {
+            @Override
+            public void tick(long time) {
+                threads.put(this, Thread.currentThread());
+                if (expensive.get()) spin(2_000_000);
+            }
+        };
+        regions.put(p1, "a");
+        regions.put(p2, "b");
+        dispatcher.createPartition(p1);
+        dispatcher.createPartition(p2);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertNotEquals(threads.get(p1), threads.get(p2));
+
+        // Interaction between both regions, should be merged
+        dispatcher.interaction(p1, p2);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(threads.get(p1), threads.get(p2));
+        final TickThread thread = (TickThread) threads.get(p1);
+        assertEquals(1, thread.entries().size());
+
+        // Merged region became too expensive, should be split
+        expensive.set(true);
+        for (int i = 0; i < 10; i++) {
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+            dispatcher.refreshThreads();
+        }
+        assertEquals(2, thread.entries().size());
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void detachedElements() {
+        // Elements outside of partitions (e.g. instances) are ticked once each, on the tick threads
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 4);
+        final AtomicInteger detachedCounter = new AtomicInteger();
+        final AtomicInteger partitionCounter = new AtomicInteger();
+        Set<Thread> threads = new CopyOnWriteArraySet<>();
+        List<Tickable> elements = IntStream.range(0, 10)
+                .mapToObj(value -> (Tickable) (time) -> {
+                    assertInstanceOf(TickThread.class, Thread.currentThread());
+                    assertEquals(0, partitionCounter.get());
+                    threads.add(Thread.currentThread());
+                    detachedCounter.incrementAndGet();
+                }).toList();
+        dispatcher.createPartition(time -> partitionCounter.incrementAndGet());
+
+        dispatcher.tickAndAwait(elements, System.currentTimeMillis());
+        assertEquals(10, detachedCounter.get());
+        assertEquals(4, threads.size());
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(1, partitionCounter.get());
+        assertEquals(10, detachedCounter.get(), "Detached elements must not be ticked with partitions");
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void threadProfile() {
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(partition -> 0, 2);
+        var partition = new Object();
+        dispatcher.createPartition(partition);
+        dispatcher.updateElement((Tickable) time -> {
+            spin(1_000_000);
+            TickThread.addPacketTime(500_000);
+        }, partition);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+
+        final TickThread busy = dispatcher.threads().get(0);
+        final TickThread idle = dispatcher.threads().get(1);
+        assertTrue(busy.busyTime() >= 1_000_000, "busy time: " + busy.busyTime());
+        assertEquals(500_000, busy.packetTime());
+        assertEquals(0, idle.busyTime());
+        assertEquals(0, idle.packetTime());
+
+        TickThread.addPacketTime(1); // Not a tick thread, ignored
+        assertEquals(500_000, busy.packetTime());
+
+        dispatcher.shutdown();
+    }
+
+    private static void spin(long nanos) {
+        final long start = System.nanoTime();
+        while (System.nanoTime() - start < nanos) Thread.onSpinWait();
+    }
 }
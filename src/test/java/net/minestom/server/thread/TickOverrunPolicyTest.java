@@ -0,0 +1,56 @@
+package net.minestom.server.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TickOverrunPolicyTest {
+    private static final long TICK = 50;
+
+    @Test
+    public void delay() {
+        var policy = TickOverrunPolicy.delay();
+        assertEquals(60, policy.nextTickStart(0, 10, 20, TICK));
+        // Slow tick shifts the schedule
+        assertEquals(130, policy.nextTickStart(0, 80, 200, TICK));
+    }
+
+    @Test
+    public void fixedRate() {
+        var policy = TickOverrunPolicy.fixedRate(2);
+        assertEquals(50, policy.nextTickStart(0, 10, 20, TICK));
+        // 120ms tick, the next one starts immediately to catch up
+        assertEquals(50, policy.nextTickStart(0, 0, 120, TICK));
+        // Too far behind, only 2 ticks are caught up
+        assertEquals(400, policy.nextTickStart(0, 0, 500, TICK));
+    }
+
+    @Test
+    public void skip() {
+        var policy = TickOverrunPolicy.skip();
+        assertEquals(50, policy.nextTickStart(0, 0, 20, TICK));
+        assertEquals(150, policy.nextTickStart(0, 0, 120, TICK));
+        assertEquals(100, policy.nextTickStart(0, 0, 100, TICK));
+    }
+
+    @Test
+    public void adaptive() {
+        var policy = TickOverrunPolicy.adaptive(Duration.ofNanos(100));
+        // Fast ticks keep the configured length
+        assertEquals(50, policy.nextTickStart(0, 0, 10, TICK));
+        long length = 0;
+        for (int i = 0; i < 100; i++) {
+            length = policy.nextTickStart(0, 0, 80, TICK);
+        }
+        // Sustained slow ticks lengthen the tick
+        assertTrue(length > 70 && length <= 80, "Unexpected tick length " + length);
+        for (int i = 0; i < 100; i++) {
+            length = policy.nextTickStart(0, 0, 300, TICK);
+        }
+        // Capped by the maximum length
+        assertEquals(100, length);
+    }
+}
@@ -0,0 +1,83 @@
+package net.minestom.server.utils.binary;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryBufferTest {
+
+    @Test
+    public void gatheringWrite() throws Exception {
+        var first = BinaryBuffer.ofSize(16);
+        var second = BinaryBuffer.ofSize(16);
+        first.writeBytes(new byte[]{1, 2, 3});
+        second.writeBytes(new byte[]{4, 5});
+
+        var channel = new LimitedChannel(Integer.MAX_VALUE);
+        assertTrue(BinaryBuffer.writeChannel(channel, first, second));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, channel.output.toByteArray());
+        assertEquals(0, first.readableBytes());
+        assertEquals(0, second.readableBytes());
+    }
+
+    @Test
+    public void gatheringPartialWrite() throws Exception {
+        var first = BinaryBuffer.ofSize(16);
+        var second = BinaryBuffer.ofSize(16);
+        first.writeBytes(new byte[]{1, 2, 3});
+        second.writeBytes(new byte[]{4, 5});
+
+        var channel = new LimitedChannel(4);
+        assertFalse(BinaryBuffer.writeChannel(channel, first, second));
+        assertEquals(0, first.readableBytes());
+        assertEquals(1, second.readableBytes());
+
+        channel.limit = Integer.MAX_VALUE;
+        assertTrue(BinaryBuffer.writeChannel(channel, first, second));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, channel.output.toByteArray());
+    }
+
+    private static final class LimitedChannel implements GatheringByteChannel {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private int limit;
+
+        LimitedChannel(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long written = 0;
+            for (int i = offset; i < offset + length; i++) {
+                written += write(srcs[i]);
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            final int count = Math.min(limit, src.remaining());
+            for (int i = 0; i < count; i++) output.write(src.get());
+            this.limit -= count;
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}